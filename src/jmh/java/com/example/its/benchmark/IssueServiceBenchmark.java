@@ -0,0 +1,74 @@
+package com.example.its.benchmark;
+
+import com.example.its.domain.issue.IssuePage;
+import com.example.its.domain.issue.IssueUpdateResult;
+import com.example.its.web.issue.IssueForm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * IssueService の主要な処理（一覧・キーワード検索・詳細・登録・更新）のベンチマーク
+ * - SeededApplication の issueCount（1千 / 10万 / 100万件）ごとに計測する
+ * - 一覧・詳細・更新の対象 ID は登録済みの範囲から毎回ランダムに選ぶ
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IssueServiceBenchmark {
+
+    private final AtomicLong sequence = new AtomicLong(); // 登録・更新で概要を一意にするための連番
+
+    @Benchmark
+    public IssuePage list(SeededApplication app) {
+        long cursor = ThreadLocalRandom.current().nextLong(app.maxId);
+        return app.issueService.findIssues(null, cursor, 20);
+    }
+
+    @Benchmark
+    public IssuePage listFirstPage(SeededApplication app) {
+        return app.issueService.findIssues(null, null, 20);
+    }
+
+    @Benchmark
+    public IssuePage search(SeededApplication app) {
+        // 「ベンチ課題123」のように数字まで指定すると候補が絞られる
+        long number = ThreadLocalRandom.current().nextLong(1, Math.max(2, app.issueCount / 10));
+        return app.issueService.findIssues("ベンチ課題" + number, null, 20);
+    }
+
+    @Benchmark
+    public IssuePage searchCommonWord(SeededApplication app) {
+        return app.issueService.findIssues("ベンチマーク", null, 20); // 全件に含まれる語
+    }
+
+    @Benchmark
+    public Optional<IssueForm> detail(SeededApplication app) {
+        long issueId = ThreadLocalRandom.current().nextLong(1, app.maxId + 1);
+        return app.issueService.findDetailById(issueId);
+    }
+
+    @Benchmark
+    public void create(SeededApplication app) {
+        long n = sequence.incrementAndGet();
+        app.issueService.createIssueWithCreator("登録ベンチ" + n + "-" + System.nanoTime(), "ベンチマークで登録した課題", "ベンチ");
+    }
+
+    @Benchmark
+    public IssueUpdateResult update(SeededApplication app) {
+        long issueId = ThreadLocalRandom.current().nextLong(2, app.maxId + 1); // 1件目は最大長の課題のため対象外
+        // 画面と同じく、表示した時点のバージョンで更新する（詳細はキャッシュから取得されることが多い）
+        Long version = app.issueService.findDetailById(issueId).map(IssueForm::getVersion).orElse(0L);
+        IssueForm form = new IssueForm(issueId, "更新ベンチ" + sequence.incrementAndGet() + "-" + System.nanoTime(),
+                "ベンチマークで更新した課題", "ベンチ", null, null, version, false);
+        return app.issueService.updateIssue(form);
+    }
+}
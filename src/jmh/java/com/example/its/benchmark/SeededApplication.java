@@ -0,0 +1,84 @@
+package com.example.its.benchmark;
+
+import com.example.its.ItsApplication;
+import com.example.its.domain.issue.IssueSearchIndex;
+import com.example.its.domain.issue.IssueSearchTextBackfill;
+import com.example.its.domain.issue.IssueService;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+
+/**
+ * ベンチマーク用に、指定件数の課題を登録した H2（インメモリ）でアプリケーションを起動する
+ * - 件数ごとに別のデータベースを使う
+ * - Web サーバーは起動せず、サービス・リポジトリを直接呼び出す
+ */
+@State(Scope.Benchmark)
+public class SeededApplication {
+
+    @Param({"1000", "100000", "1000000"})
+    public int issueCount;
+
+    ConfigurableApplicationContext context;
+    IssueService issueService;
+    long maxId;
+
+    @Setup(Level.Trial)
+    public void start() {
+        SpringApplication application = new SpringApplication(ItsApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        application.setDefaultProperties(Map.of(
+                "spring.datasource.url", "jdbc:h2:mem:bench" + issueCount + ";DB_CLOSE_ON_EXIT=TRUE;MODE=MySQL",
+                "logging.level.root", "WARN"));
+        context = application.run();
+
+        seed(context.getBean(JdbcTemplate.class), issueCount);
+        context.getBean(IssueSearchTextBackfill.class).backfill(); // 投入した課題の検索用の正規化列を埋める
+        context.getBean(IssueSearchIndex.class).rebuild(); // 投入した課題を検索インデックスに反映する
+        issueService = context.getBean(IssueService.class);
+        maxId = context.getBean(JdbcTemplate.class).queryForObject("SELECT MAX(id) FROM issues", Long.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    /**
+     * サンプルデータの課題に加えて、合計 issueCount 件になるまで課題と作成者を登録する
+     */
+    static void seed(JdbcTemplate jdbcTemplate, int issueCount) {
+        Integer existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM issues", Integer.class);
+        int count = issueCount - existing;
+        if (count <= 0) {
+            return;
+        }
+        jdbcTemplate.update("""
+            INSERT INTO issues (summary, description)
+            SELECT CONCAT('ベンチ課題', X), CONCAT('ベンチマーク用の課題です。番号は', X, 'です')
+            FROM SYSTEM_RANGE(1, ?)
+        """, count);
+        // 作成者の辞書（creators）に 100 人分の名前を登録してから、課題ごとに作成者IDで参照する
+        jdbcTemplate.update("""
+            INSERT INTO creators (name)
+            SELECT CONCAT('作成者', X - 1)
+            FROM SYSTEM_RANGE(1, 100)
+            WHERE NOT EXISTS (SELECT 1 FROM creators c WHERE c.name = CONCAT('作成者', X - 1))
+        """);
+        jdbcTemplate.update("""
+            INSERT INTO issues_creator (issue_id, creator_id)
+            SELECT i.id, (SELECT c.id FROM creators c WHERE c.name = CONCAT('作成者', MOD(i.id, 100)))
+            FROM issues i
+            WHERE NOT EXISTS (SELECT 1 FROM issues_creator ic WHERE ic.issue_id = i.id)
+        """);
+    }
+}
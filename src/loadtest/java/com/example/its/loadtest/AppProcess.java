@@ -0,0 +1,162 @@
+package com.example.its.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 負荷テスト対象のアプリケーションを別プロセス（java -jar）で起動する
+ * - 負荷をかける側とスレッド・ヒープを共有しないよう、計測ごとに新しいプロセスを使う
+ * - 起動後は /actuator/health（または指定したパス）が 200 を返すまで待つ
+ */
+final class AppProcess implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final String HEALTH_PATH = "/actuator/health"; // DOWN の場合は 503 を返す
+    private static final long POLL_INTERVAL_MILLIS = 20; // 起動時間を計測するため短い間隔で確認する
+
+    private final Process process;
+    private final URI baseUri;
+    private Duration startupTime;
+
+    private AppProcess(Process process, URI baseUri) {
+        this.process = process;
+        this.baseUri = baseUri;
+    }
+
+    /**
+     * @param jar     bootJar で作成した実行可能 JAR
+     * @param profile 有効にするプロファイル（null の場合は指定しない）
+     */
+    static AppProcess start(File jar, String profile, HttpClient client) throws IOException, InterruptedException {
+        return start(jar, profile, List.of(), client);
+    }
+
+    /**
+     * @param jar     bootJar で作成した実行可能 JAR
+     * @param profile 有効にするプロファイル（null の場合は指定しない）
+     * @param args    追加のアプリケーション引数（--its.h2.path=... など）
+     */
+    static AppProcess start(File jar, String profile, List<String> args, HttpClient client)
+            throws IOException, InterruptedException {
+        return start(jar, List.of(), profile, args, HEALTH_PATH, client);
+    }
+
+    /**
+     * @param jar       bootJar で作成した実行可能 JAR
+     * @param jvmArgs   追加の JVM 引数（-XX:SharedArchiveFile=... など）
+     * @param profile   有効にするプロファイル（null の場合は指定しない）
+     * @param args      追加のアプリケーション引数（--its.h2.path=... など）
+     * @param readyPath このパスへの GET が 200 を返したら起動したとみなす
+     */
+    static AppProcess start(File jar, List<String> jvmArgs, String profile, List<String> args, String readyPath,
+                            HttpClient client) throws IOException, InterruptedException {
+        int port = freePort();
+        String java = ProcessHandle.current().info().command().orElse("java"); // 負荷テストと同じ JDK で起動する
+        List<String> command = new ArrayList<>(List.of(java, "-Dfile.encoding=UTF-8"));
+        command.addAll(jvmArgs);
+        command.addAll(List.of("-jar", jar.getAbsolutePath(), "--server.port=" + port, "--logging.level.root=WARN"));
+        if (profile != null) {
+            command.add("--spring.profiles.active=" + profile);
+        }
+        command.addAll(args);
+        File log = File.createTempFile("its-loadtest-", ".log");
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log)
+                .start();
+        AppProcess app = new AppProcess(process, URI.create("http://localhost:" + port));
+        try {
+            app.awaitReady(client, readyPath, log);
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            app.close();
+            throw e;
+        }
+        return app;
+    }
+
+    /**
+     * プロセスの起動から readyPath（既定は /actuator/health）が 200 を返すまでの時間
+     */
+    Duration startupTime() {
+        return startupTime;
+    }
+
+    URI uri(String pathAndQuery) {
+        return baseUri.resolve(pathAndQuery);
+    }
+
+    /**
+     * 一括登録（POST /issues/import）で課題を count 件登録する
+     * - 概要に連番を含め、検索シナリオで件数を絞り込めるようにする
+     */
+    void seed(HttpClient client, int count) throws IOException, InterruptedException {
+        StringBuilder body = new StringBuilder();
+        for (int i = 1; i <= count; i++) {
+            body.append("{\"summary\":\"負荷課題").append(i)
+                    .append("\",\"description\":\"負荷テスト用の課題です。番号は").append(i)
+                    .append("です\",\"creatorName\":\"作成者").append(i % 100).append("\"}\n");
+        }
+        HttpRequest request = HttpRequest.newBuilder(uri("/issues/import"))
+                .header("Content-Type", "application/x-ndjson; charset=UTF-8")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("課題の登録に失敗しました: " + response.statusCode() + " " + response.body());
+        }
+    }
+
+    private void awaitReady(HttpClient client, String readyPath, File log) throws IOException, InterruptedException {
+        long started = System.nanoTime();
+        long deadline = started + STARTUP_TIMEOUT.toNanos();
+        HttpRequest request = HttpRequest.newBuilder(uri(readyPath)).timeout(Duration.ofSeconds(30)).build();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("アプリケーションの起動に失敗しました（ログ: " + log + "）");
+            }
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    startupTime = Duration.ofNanos(System.nanoTime() - started);
+                    return;
+                }
+            } catch (IOException e) {
+                // 起動中はまだ接続できない
+            }
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+        }
+        throw new IllegalStateException("アプリケーションが時間内に起動しませんでした（ログ: " + log + "）");
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    /**
+     * プロセスを停止する（30秒で止まらない場合は強制終了）
+     * - 待機中に割り込まれた場合は待たずに強制終了し、割り込み状態を戻す
+     */
+    @Override
+    public void close() {
+        process.destroy();
+        try {
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.its.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * HTTP で負荷をかけ、スループットとレイテンシを計測する
+ * - run: 一定数の同時接続でリクエストを送り続ける（クローズドループ）
+ * - runAtRate: 目標レートで送信し、エンドポイントごとに計測する（オープンループ）
+ * - 負荷をかける側は仮想スレッドで動かし、クライアントのスレッド数が計測の上限にならないようにする
+ * - レイテンシは HdrHistogram に記録し、ウォームアップ中の値は捨てる
+ */
+final class LoadRunner {
+
+    private static final long MAX_LATENCY_MICROS = Duration.ofMinutes(1).toNanos() / 1000;
+
+    private final HttpClient client;
+
+    LoadRunner(HttpClient client) {
+        this.client = client;
+    }
+
+    /**
+     * @param concurrency 同時に処理中にするリクエストの数
+     * @param requests    送信するリクエストを作る（呼び出しごとに対象を変えてよい、2xx の応答を成功として数える）
+     */
+    Result run(int concurrency, Duration warmup, Duration duration, Supplier<HttpRequest> requests)
+            throws InterruptedException {
+        Recorder recorder = new Recorder(MAX_LATENCY_MICROS, 3);
+        LongAdder errors = new LongAdder();
+        Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long measureUntil = measureFrom + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> workers = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(executor.submit(() -> {
+                    long now;
+                    while ((now = System.nanoTime()) < measureUntil) {
+                        int status = send(requests.get());
+                        long finished = System.nanoTime();
+                        if (now < measureFrom || finished > measureUntil) {
+                            continue; // ウォームアップ中・計測終了後にまたがるリクエストは数えない
+                        }
+                        statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+                        if (status / 100 == 2) {
+                            recorder.recordValue(Math.min((finished - now) / 1000, MAX_LATENCY_MICROS));
+                        } else {
+                            errors.increment();
+                        }
+                    }
+                }));
+            }
+            Thread.sleep(warmup.toMillis());
+            recorder.reset(); // ウォームアップ中に記録された値を捨てる
+            for (Future<?> worker : workers) {
+                try {
+                    worker.get();
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException(e.getCause());
+                }
+            }
+        }
+        return new Result(recorder.getIntervalHistogram(), errors.sum(), sums(statuses), duration);
+    }
+
+    /**
+     * 目標レートでリクエストを送り、エンドポイントごとに計測する
+     * - 送信予定時刻から完了までをレイテンシとし、応答が遅れても次の送信を待たない（coordinated omission を避ける）
+     * - 送信予定時刻がウォームアップ中のリクエストは数えない
+     *
+     * @param ratePerSecond 1秒あたりに送信するリクエストの数
+     * @param calls         送信するリクエストを作る（呼び出しごとにエンドポイントを選んでよい）
+     * @return エンドポイント名 → 計測結果（名前順）
+     */
+    Map<String, Result> runAtRate(double ratePerSecond, Duration warmup, Duration duration, Supplier<Call> calls) {
+        Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+        long intervalNanos = (long) (1_000_000_000L / ratePerSecond);
+        long startedAt = System.nanoTime();
+        long measureFrom = startedAt + warmup.toNanos();
+        long measureUntil = measureFrom + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long n = 0; ; n++) {
+                long scheduled = startedAt + n * intervalNanos;
+                if (scheduled >= measureUntil) {
+                    break;
+                }
+                long wait;
+                while ((wait = scheduled - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                Call call = calls.get();
+                executor.execute(() -> {
+                    int status = call.exchange().send(client);
+                    long finished = System.nanoTime();
+                    if (scheduled < measureFrom) {
+                        return;
+                    }
+                    EndpointStats endpoint = stats.computeIfAbsent(call.endpoint(), name -> new EndpointStats());
+                    endpoint.statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+                    if (status == call.expectedStatus()) {
+                        endpoint.recorder.recordValue(Math.min((finished - scheduled) / 1000, MAX_LATENCY_MICROS));
+                    } else {
+                        endpoint.errors.increment();
+                    }
+                });
+            }
+        } // 送信済みのリクエストが全て完了するまで待つ
+
+        Map<String, Result> results = new TreeMap<>();
+        stats.forEach((name, endpoint) -> results.put(name, new Result(endpoint.recorder.getIntervalHistogram(),
+                endpoint.errors.sum(), sums(endpoint.statuses), duration)));
+        return results;
+    }
+
+    private int send(HttpRequest request) {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    private static Map<Integer, Long> sums(Map<Integer, LongAdder> counters) {
+        Map<Integer, Long> result = new TreeMap<>();
+        counters.forEach((status, count) -> result.put(status, count.sum()));
+        return result;
+    }
+
+    /**
+     * 1回の HTTP のやり取り（詳細を取得してから更新する、のように複数回送ってもよい）
+     */
+    @FunctionalInterface
+    interface Exchange {
+        /**
+         * @return 最後の応答のステータスコード（通信エラーの場合は -1）
+         */
+        int send(HttpClient client);
+    }
+
+    /**
+     * runAtRate で送信する1件分
+     *
+     * @param endpoint       集計に使うエンドポイント名
+     * @param expectedStatus 成功とみなすステータスコード
+     */
+    record Call(String endpoint, int expectedStatus, Exchange exchange) {
+    }
+
+    private static final class EndpointStats {
+        private final Recorder recorder = new Recorder(MAX_LATENCY_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+        private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * 計測結果（レイテンシはマイクロ秒、statuses はステータスコード → 件数で、通信エラーは -1）
+     */
+    record Result(Histogram latency, long errors, Map<Integer, Long> statuses, Duration duration) {
+
+        double requestsPerSecond() {
+            return latency.getTotalCount() / (duration.toNanos() / 1_000_000_000.0);
+        }
+
+        double percentileMillis(double percentile) {
+            return latency.getValueAtPercentile(percentile) / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package com.example.its.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 一覧・検索・詳細・登録・更新・削除を指定した割合で混ぜ、目標レートで負荷をかける
+ * - アプリケーションを別プロセスで起動し、課題を登録してから計測する
+ * - エンドポイントごとのスループットとレイテンシ（HdrHistogram）を表示し、JSON に書き出す
+ *   （コミット ID を含めるため、コミット間で比較できる）
+ * - 実行は gradle loadTest（レート・割合・件数・計測秒数などは -P で指定できる）
+ */
+public class MixedLoadTest {
+
+    private static final String DEFAULT_MIX = "list:40,search:20,detail:25,create:5,update:5,delete:5";
+    private static final Pattern VERSION = Pattern.compile("name=\"version\" value=\"(\\d+)\"");
+
+    private final AppProcess app;
+    private final int issues;
+    private final AtomicLong sequence = new AtomicLong(); // 登録・更新で概要を一意にするための連番
+    private final AtomicLong nextDeleteId; // 削除専用に登録した課題の次の ID
+    private final long runId = System.currentTimeMillis(); // 同じデータベースで繰り返し実行しても概要が重複しないようにする
+
+    private MixedLoadTest(AppProcess app, int issues) {
+        this.app = app;
+        this.issues = issues;
+        this.nextDeleteId = new AtomicLong(issues + 1L);
+    }
+
+    public static void main(String[] args) throws Exception {
+        File jar = new File(System.getProperty("loadtest.jar", "build/libs/its-0.0.1-SNAPSHOT.jar"));
+        int issues = Integer.getInteger("loadTestIssues", 10_000);
+        double rate = Double.parseDouble(System.getProperty("loadTestRate", "200"));
+        Map<String, Integer> mix = parseMix(System.getProperty("loadTestMix", DEFAULT_MIX));
+        Duration duration = Duration.ofSeconds(Integer.getInteger("loadTestSeconds", 30));
+        Duration warmup = Duration.ofSeconds(Integer.getInteger("loadTestWarmupSeconds", 10));
+        String profile = System.getProperty("loadTestProfile");
+        String commit = commit();
+        File output = new File(System.getProperty("loadTestOutput", "build/loadtest/"
+                + OffsetDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + "-" + commit + ".json"));
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1) // h2c へのアップグレードを試みない
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        Map<String, LoadRunner.Result> results;
+        try (AppProcess app = AppProcess.start(jar, profile, client)) {
+            // 削除は専用に登録した課題（読み取り・更新の対象より後ろの ID）から順に行う
+            int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+            long deletes = (long) Math.ceil(rate * (warmup.toSeconds() + duration.toSeconds()) * mix.getOrDefault("delete", 0) / total);
+            app.seed(client, issues + (int) deletes);
+
+            MixedLoadTest test = new MixedLoadTest(app, issues);
+            results = new LoadRunner(client).runAtRate(rate, warmup, duration, test.calls(mix));
+        }
+
+        System.out.printf("%n課題 %d 件 / 目標 %.0f req/s / 計測 %d 秒 / 割合 %s%n", issues, rate, duration.toSeconds(), mix);
+        System.out.printf("%-8s %10s %9s %9s %9s %9s %7s%n", "endpoint", "req/s", "p50(ms)", "p99(ms)", "p99.9(ms)", "max(ms)", "errors");
+        results.forEach((name, result) -> System.out.printf("%-8s %10.1f %9.2f %9.2f %9.2f %9.2f %7d%n",
+                name, result.requestsPerSecond(), result.percentileMillis(50), result.percentileMillis(99),
+                result.percentileMillis(99.9), result.latency().getMaxValue() / 1000.0, result.errors()));
+
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("issues", issues);
+        settings.put("targetRate", rate);
+        settings.put("mix", mix);
+        settings.put("warmupSeconds", warmup.toSeconds());
+        settings.put("seconds", duration.toSeconds());
+        settings.put("profile", profile);
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("commit", commit);
+        report.put("startedAt", OffsetDateTime.now().minus(warmup.plus(duration)).toString());
+        report.put("settings", settings);
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        results.forEach((name, result) -> endpoints.put(name, summary(result)));
+        report.put("endpoints", endpoints);
+        report.put("total", summary(total(results.values(), duration)));
+
+        File directory = output.getAbsoluteFile().getParentFile();
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("出力先を作成できません: " + directory);
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(output, report);
+        System.out.println("結果: " + output.getAbsolutePath());
+    }
+
+    /**
+     * 割合に従ってエンドポイントを選び、リクエストを作る
+     */
+    private Supplier<LoadRunner.Call> calls(Map<String, Integer> mix) {
+        List<String> names = new ArrayList<>(mix.keySet());
+        int[] cumulative = new int[names.size()];
+        int total = 0;
+        for (int i = 0; i < names.size(); i++) {
+            total += mix.get(names.get(i));
+            cumulative[i] = total;
+        }
+        int bound = total;
+        return () -> {
+            int r = ThreadLocalRandom.current().nextInt(bound);
+            int i = 0;
+            while (r >= cumulative[i]) {
+                i++;
+            }
+            return call(names.get(i));
+        };
+    }
+
+    /**
+     * - list:   ランダムなカーソル位置の一覧ページ
+     * - search: 連番で絞り込むキーワード検索
+     * - detail: ランダムな ID の詳細
+     * - create: 新しい課題の登録（成功すると一覧へリダイレクト）
+     * - update: 詳細を取得し、表示したバージョンで更新（2回分のやり取りを1件として計測する）
+     * - delete: 削除専用に登録した課題を古い順に削除
+     */
+    private LoadRunner.Call call(String endpoint) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (endpoint) {
+            case "list" -> get(endpoint, "/issues?cursor=" + random.nextInt(issues));
+            case "search" -> get(endpoint, "/issues?keyword="
+                    + URLEncoder.encode("負荷課題" + random.nextInt(1, Math.max(2, issues / 10)), StandardCharsets.UTF_8));
+            case "detail" -> get(endpoint, "/issues/" + random.nextInt(1, issues + 1));
+            case "create" -> new LoadRunner.Call(endpoint, 302, client -> send(client, post("/issues", Map.of(
+                    "summary", "負荷登録" + runId + "-" + sequence.incrementAndGet(),
+                    "description", "負荷テストで登録した課題です",
+                    "creatorName", "負荷テスト"))));
+            case "update" -> {
+                long issueId = random.nextInt(1, issues + 1);
+                yield new LoadRunner.Call(endpoint, 302, client -> update(client, issueId));
+            }
+            case "delete" -> {
+                long issueId = nextDeleteId.getAndIncrement();
+                yield new LoadRunner.Call(endpoint, 302, client -> send(client, post("/issues/" + issueId + "/delete", Map.of())));
+            }
+            default -> throw new IllegalArgumentException("不明なエンドポイントです: " + endpoint);
+        };
+    }
+
+    private int update(HttpClient client, long issueId) {
+        try {
+            HttpResponse<String> detail = client.send(request("/issues/" + issueId).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+            Matcher version = VERSION.matcher(detail.body());
+            if (detail.statusCode() != 200 || !version.find()) {
+                return detail.statusCode();
+            }
+            return send(client, post("/issues/" + issueId + "/update", Map.of(
+                    "summary", "負荷更新" + runId + "-" + sequence.incrementAndGet(),
+                    "description", "負荷テストで更新した課題です",
+                    "creatorName", "負荷テスト",
+                    "version", version.group(1))));
+        } catch (IOException | InterruptedException e) {
+            return -1;
+        }
+    }
+
+    private LoadRunner.Call get(String endpoint, String pathAndQuery) {
+        HttpRequest request = request(pathAndQuery).GET().build();
+        return new LoadRunner.Call(endpoint, 200, client -> send(client, request));
+    }
+
+    private HttpRequest post(String path, Map<String, String> form) {
+        StringBuilder body = new StringBuilder();
+        form.forEach((name, value) -> body.append(body.isEmpty() ? "" : "&")
+                .append(name).append('=').append(URLEncoder.encode(value, StandardCharsets.UTF_8)));
+        return request(path)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                .build();
+    }
+
+    private HttpRequest.Builder request(String pathAndQuery) {
+        return HttpRequest.newBuilder(app.uri(pathAndQuery)).timeout(Duration.ofSeconds(30));
+    }
+
+    private static int send(HttpClient client, HttpRequest request) {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException | InterruptedException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * "list:40,search:20" → {list=40, search=20}
+     */
+    static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] pair = entry.trim().split(":");
+            if (pair.length != 2 || Integer.parseInt(pair[1].trim()) < 0) {
+                throw new IllegalArgumentException("割合の形式が不正です（例: " + DEFAULT_MIX + "）: " + mix);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                result.put(pair[0].trim(), weight);
+            }
+        }
+        if (result.isEmpty()) {
+            throw new IllegalArgumentException("割合が全て 0 です: " + mix);
+        }
+        return result;
+    }
+
+    private static LoadRunner.Result total(Iterable<LoadRunner.Result> results, Duration duration) {
+        Histogram latency = null;
+        long errors = 0;
+        Map<Integer, Long> statuses = new TreeMap<>();
+        for (LoadRunner.Result result : results) {
+            if (latency == null) {
+                latency = result.latency().copy();
+            } else {
+                latency.add(result.latency());
+            }
+            errors += result.errors();
+            result.statuses().forEach((status, count) -> statuses.merge(status, count, Long::sum));
+        }
+        return new LoadRunner.Result(latency != null ? latency : new Histogram(3), errors, statuses, duration);
+    }
+
+    private static Map<String, Object> summary(LoadRunner.Result result) {
+        Map<String, Object> latency = new LinkedHashMap<>();
+        latency.put("p50", result.percentileMillis(50));
+        latency.put("p90", result.percentileMillis(90));
+        latency.put("p99", result.percentileMillis(99));
+        latency.put("p99.9", result.percentileMillis(99.9));
+        latency.put("max", result.latency().getMaxValue() / 1000.0);
+        latency.put("mean", result.latency().getMean() / 1000.0);
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", result.latency().getTotalCount() + result.errors());
+        summary.put("errors", result.errors());
+        summary.put("throughput", result.requestsPerSecond());
+        summary.put("statuses", result.statuses());
+        summary.put("latencyMillis", latency);
+        return summary;
+    }
+
+    /**
+     * 計測したコミット（取得できない場合は unknown）
+     */
+    private static String commit() {
+        try {
+            Process git = new ProcessBuilder("git", "rev-parse", "--short", "HEAD").redirectErrorStream(true).start();
+            String id = new String(git.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+            return git.waitFor(10, TimeUnit.SECONDS) && git.exitValue() == 0 ? id : "unknown";
+        } catch (IOException | InterruptedException e) {
+            return "unknown";
+        }
+    }
+}
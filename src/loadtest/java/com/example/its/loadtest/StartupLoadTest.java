@@ -0,0 +1,65 @@
+package com.example.its.loadtest;
+
+import java.io.File;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 既定の起動と faststart モードで、プロセスの起動から GET /issues が初めて成功するまでの時間を比較する
+ * - default:   java -jar（AOT・CDS・遅延初期化なし）
+ * - lazy:      faststart プロファイル（遅延初期化）だけ
+ * - aot-cds:   AOT 処理済みのコードと CDS アーカイブだけ（遅延初期化なし）
+ * - faststart: AOT・CDS・遅延初期化の全て
+ * - モードごとに loadTestRuns 回起動し、中央値・最小値・最大値を表示する
+ * - 実行は gradle startupLoadTest（fastStartTrain で作成した JAR とアーカイブを使う）
+ */
+public class StartupLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        File jar = new File(System.getProperty("loadtest.jar", "build/libs/its-0.0.1-SNAPSHOT.jar"));
+        File fastStartJar = new File(System.getProperty("loadtest.fastStartJar", "build/faststart/its-0.0.1-SNAPSHOT.jar"));
+        File archive = new File(System.getProperty("loadtest.fastStartArchive", "build/faststart/its.jsa"));
+        int runs = Integer.getInteger("loadTestRuns", 5);
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1) // h2c へのアップグレードを試みない
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        List<String> aotCds = List.of("-XX:SharedArchiveFile=" + archive.getAbsolutePath(), "-Dspring.aot.enabled=true");
+        List<Mode> modes = List.of(
+                new Mode("default", jar, List.of(), null),
+                new Mode("lazy", jar, List.of(), "faststart"),
+                new Mode("aot-cds", fastStartJar, aotCds, null),
+                new Mode("faststart", fastStartJar, aotCds, "faststart"));
+
+        List<String> lines = new ArrayList<>();
+        for (Mode mode : modes) {
+            long[] millis = new long[runs];
+            for (int i = 0; i < runs; i++) {
+                try (AppProcess app = AppProcess.start(mode.jar(), mode.jvmArgs(), mode.profile(), List.of(), "/issues", client)) {
+                    millis[i] = app.startupTime().toMillis();
+                }
+                System.out.printf("%-10s %d回目 %6d ms%n", mode.name(), i + 1, millis[i]);
+            }
+            Arrays.sort(millis);
+            lines.add(String.format("%-10s %11d %9d %9d", mode.name(), millis[runs / 2], millis[0], millis[runs - 1]));
+        }
+
+        System.out.printf("%nGET /issues が初めて成功するまでの時間（%d 回）%n", runs);
+        System.out.printf("%-10s %11s %9s %9s%n", "mode", "median(ms)", "min(ms)", "max(ms)");
+        lines.forEach(System.out::println);
+    }
+
+    /**
+     * 計測する起動方法
+     *
+     * @param jvmArgs 追加の JVM 引数（AOT・CDS を使う場合に指定する）
+     * @param profile 有効にするプロファイル（null の場合は指定しない）
+     */
+    private record Mode(String name, File jar, List<String> jvmArgs, String profile) {
+    }
+}
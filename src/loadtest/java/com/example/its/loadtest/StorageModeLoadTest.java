@@ -0,0 +1,119 @@
+package com.example.its.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * インメモリの H2 とファイルモードの H2（persistent プロファイル）で、起動時間と書き込みのスループットを比較する
+ * - memory:       インメモリ。起動のたびにマイグレーションとデータの登録が必要
+ * - file:         ファイルモードの初回起動（マイグレーションを実行し、データを登録する）
+ * - file-restart: file と同じファイルで再起動（マイグレーション・データの登録は行わない）
+ * - file-sync:    WRITE_DELAY=0（コミットのたびにディスクへ書き出す）のファイルモード
+ * - 書き込みは POST /api/issues（課題の登録）を一定数の同時接続で送り続けて計測する
+ * - 実行は gradle storageModeLoadTest（件数・同時接続数・計測秒数は -P で指定できる）
+ */
+public class StorageModeLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        File jar = new File(System.getProperty("loadtest.jar", "build/libs/its-0.0.1-SNAPSHOT.jar"));
+        int issues = Integer.getInteger("loadTestIssues", 10_000);
+        int concurrency = Integer.getInteger("loadTestConcurrency", 16);
+        Duration duration = Duration.ofSeconds(Integer.getInteger("loadTestSeconds", 20));
+        Duration warmup = Duration.ofSeconds(Integer.getInteger("loadTestWarmupSeconds", 5));
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1) // h2c へのアップグレードを試みない
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        LoadRunner runner = new LoadRunner(client);
+        AtomicLong sequence = new AtomicLong(); // 登録する課題の概要を一意にするための連番
+
+        Path directory = Files.createTempDirectory("its-h2-");
+        String path = directory.resolve("its").toString();
+        List<Mode> modes = List.of(
+                new Mode("memory", null, List.of(), true),
+                new Mode("file", "persistent", List.of("--its.h2.path=" + path), true),
+                new Mode("file-restart", "persistent", List.of("--its.h2.path=" + path), false),
+                new Mode("file-sync", "persistent", List.of("--its.h2.path=" + path + "-sync", "--its.h2.write-delay=0"), true));
+
+        List<String> lines = new ArrayList<>();
+        try {
+            for (Mode mode : modes) {
+                try (AppProcess app = AppProcess.start(jar, mode.profile(), mode.args(), client)) {
+                    long seedMillis = 0;
+                    if (mode.seed()) {
+                        long started = System.nanoTime();
+                        app.seed(client, issues);
+                        seedMillis = (System.nanoTime() - started) / 1_000_000;
+                    }
+                    long before = countIssues(app, client); // 再起動の場合は前回までに登録した課題が残っている
+                    LoadRunner.Result result = runner.run(concurrency, warmup, duration,
+                            () -> create(app, sequence.incrementAndGet()));
+                    String line = String.format("%-12s %11d %9d %10d %10.1f %9.2f %9.2f %7d",
+                            mode.name(), app.startupTime().toMillis(), seedMillis, before,
+                            result.requestsPerSecond(), result.percentileMillis(50), result.percentileMillis(99),
+                            result.errors());
+                    System.out.println(line);
+                    lines.add(line);
+                }
+            }
+        } finally {
+            deleteRecursively(directory);
+        }
+
+        System.out.printf("%n登録する課題 %d 件 / 同時接続 %d / 計測 %d 秒%n", issues, concurrency, duration.toSeconds());
+        System.out.printf("%-12s %11s %9s %10s %10s %9s %9s %7s%n",
+                "mode", "startup(ms)", "seed(ms)", "issues", "writes/s", "p50(ms)", "p99(ms)", "errors");
+        lines.forEach(System.out::println);
+    }
+
+    /**
+     * 計測する保存方式
+     *
+     * @param seed 起動後に課題を登録するか（再起動の場合は登録済みのデータを使う）
+     */
+    private record Mode(String name, String profile, List<String> args, boolean seed) {
+    }
+
+    private static HttpRequest create(AppProcess app, long n) {
+        String body = "{\"summary\":\"書き込み計測" + System.nanoTime() + "-" + n
+                + "\",\"description\":\"書き込みのスループット計測で登録した課題です\",\"creatorName\":\"負荷テスト\"}";
+        return HttpRequest.newBuilder(app.uri("/api/issues"))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    /**
+     * 削除されていない課題の件数（GET /api/issues/stream の配列の長さ）
+     */
+    private static long countIssues(AppProcess app, HttpClient client) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(app.uri("/api/issues/stream")).build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        return new ObjectMapper().readTree(response.body()).size();
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.its.loadtest;
+
+import java.io.File;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * プラットフォームスレッドと仮想スレッド（virtual プロファイル）でリクエスト処理のスループットと p99 を比較する
+ * - モードごとにアプリケーションを起動し直し、同じ件数の課題を登録してから一覧・検索・詳細を順に計測する
+ * - 実行は gradle threadModeLoadTest（件数・同時接続数・計測秒数は -P で指定できる）
+ */
+public class ThreadModeLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        File jar = new File(System.getProperty("loadtest.jar", "build/libs/its-0.0.1-SNAPSHOT.jar"));
+        int issues = Integer.getInteger("loadTestIssues", 10_000);
+        int concurrency = Integer.getInteger("loadTestConcurrency", 400);
+        Duration duration = Duration.ofSeconds(Integer.getInteger("loadTestSeconds", 20));
+        Duration warmup = Duration.ofSeconds(Integer.getInteger("loadTestWarmupSeconds", 5));
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1) // h2c へのアップグレードを試みない
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        LoadRunner runner = new LoadRunner(client);
+
+        Map<String, String> modes = new LinkedHashMap<>();
+        modes.put("platform", null);
+        modes.put("virtual", "virtual");
+
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<String, String> mode : modes.entrySet()) {
+            try (AppProcess app = AppProcess.start(jar, mode.getValue(), client)) {
+                app.seed(client, issues);
+                for (Map.Entry<String, Supplier<HttpRequest>> scenario : scenarios(app, issues).entrySet()) {
+                    LoadRunner.Result result = runner.run(concurrency, warmup, duration, scenario.getValue());
+                    String line = String.format("%-8s %-7s %10.1f %9.2f %9.2f %9.2f %7d",
+                            mode.getKey(), scenario.getKey(), result.requestsPerSecond(),
+                            result.percentileMillis(50), result.percentileMillis(99),
+                            result.latency().getMaxValue() / 1000.0, result.errors());
+                    System.out.println(line);
+                    lines.add(line);
+                }
+            }
+        }
+
+        System.out.printf("%n課題 %d 件 / 同時接続 %d / 計測 %d 秒%n", issues, concurrency, duration.toSeconds());
+        System.out.printf("%-8s %-7s %10s %9s %9s %9s %7s%n", "mode", "scenario", "req/s", "p50(ms)", "p99(ms)", "max(ms)", "errors");
+        lines.forEach(System.out::println);
+    }
+
+    /**
+     * 一覧（ランダムなカーソル位置のページ）・検索（連番で絞り込むキーワード）・詳細（ランダムな ID）
+     */
+    private static Map<String, Supplier<HttpRequest>> scenarios(AppProcess app, int issues) {
+        Map<String, Supplier<HttpRequest>> scenarios = new LinkedHashMap<>();
+        scenarios.put("list", () -> get(app, "/issues?cursor=" + ThreadLocalRandom.current().nextInt(issues)));
+        scenarios.put("search", () -> get(app, "/issues?keyword="
+                + URLEncoder.encode("負荷課題" + ThreadLocalRandom.current().nextInt(1, Math.max(2, issues / 10)),
+                StandardCharsets.UTF_8)));
+        scenarios.put("detail", () -> get(app, "/issues/" + ThreadLocalRandom.current().nextInt(1, issues + 1)));
+        return scenarios;
+    }
+
+    private static HttpRequest get(AppProcess app, String pathAndQuery) {
+        return HttpRequest.newBuilder(app.uri(pathAndQuery)).timeout(Duration.ofSeconds(30)).GET().build();
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.its.config;
+
+import org.mybatis.spring.mapper.MapperFactoryBean;
+import org.mybatis.spring.mapper.MapperScannerConfigurer;
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.aot.BeanRegistrationAotContribution;
+import org.springframework.beans.factory.aot.BeanRegistrationAotProcessor;
+import org.springframework.beans.factory.aot.BeanRegistrationCode;
+import org.springframework.beans.factory.aot.BeanRegistrationCodeFragmentsDecorator;
+import org.springframework.beans.factory.aot.BeanRegistrationExcludeFilter;
+import org.springframework.beans.factory.support.InstanceSupplier;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.ConstructorArgumentValues;
+import org.springframework.beans.factory.support.MergedBeanDefinitionPostProcessor;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ResolvableType;
+import org.springframework.javapoet.CodeBlock;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Spring AOT（faststart モード）で MyBatis のマッパーを使えるようにする
+ * - マッパーの Bean 定義はビルド時に生成済みのため、実行時に MapperScannerConfigurer で再度スキャンしない
+ *   （同じ名前の Bean 定義が重複して起動に失敗する）
+ * - MapperFactoryBean の型引数をマッパーのインターフェースに解決し、生成コードで型が分かるようにする
+ * - 生成コードでは MapperFactoryBean を型引数付きで生成する（既定の生成コードは raw 型のため未検査の警告が出る）
+ * - 通常の起動（spring.aot.enabled=false）では型を解決するだけで動作は変わらない
+ */
+@Configuration(proxyBeanMethods = false)
+public class MyBatisAotConfig {
+
+    @Bean
+    static MapperScannerAotExcludeFilter mapperScannerAotExcludeFilter() {
+        return new MapperScannerAotExcludeFilter();
+    }
+
+    @Bean
+    static MergedBeanDefinitionPostProcessor mapperFactoryBeanTypeResolver() {
+        return new MapperFactoryBeanTypeResolver();
+    }
+
+    @Bean
+    static MapperFactoryBeanAotProcessor mapperFactoryBeanAotProcessor() {
+        return new MapperFactoryBeanAotProcessor();
+    }
+
+    /**
+     * MapperScannerConfigurer を生成コードに含めない（Bean として登録する除外フィルターは AOT プロセッサーも兼ねる必要がある）
+     */
+    static class MapperScannerAotExcludeFilter implements BeanRegistrationExcludeFilter, BeanFactoryInitializationAotProcessor {
+
+        @Override
+        public boolean isExcludedFromAotProcessing(RegisteredBean registeredBean) {
+            return MapperScannerConfigurer.class.equals(registeredBean.getBeanClass());
+        }
+
+        @Override
+        public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+            return null; // 除外するだけで、生成するコードは無い
+        }
+    }
+
+    /**
+     * MapperFactoryBean<?> の Bean 定義に、コンストラクター引数（マッパーのクラス名）から型を設定する
+     */
+    static class MapperFactoryBeanTypeResolver implements MergedBeanDefinitionPostProcessor {
+
+        @Override
+        public void postProcessMergedBeanDefinition(RootBeanDefinition beanDefinition, Class<?> beanType, String beanName) {
+            if (!beanDefinition.hasBeanClass() || !MapperFactoryBean.class.isAssignableFrom(beanDefinition.getBeanClass())
+                    || !beanDefinition.getResolvableType().hasUnresolvableGenerics()) {
+                return;
+            }
+            Class<?> mapperInterface = mapperInterface(beanDefinition);
+            if (mapperInterface == null) {
+                return;
+            }
+            ConstructorArgumentValues arguments = new ConstructorArgumentValues();
+            arguments.addGenericArgumentValue(mapperInterface);
+            beanDefinition.setConstructorArgumentValues(arguments);
+            beanDefinition.setTargetType(ResolvableType.forClassWithGenerics(beanDefinition.getBeanClass(), mapperInterface));
+        }
+
+        private static Class<?> mapperInterface(RootBeanDefinition beanDefinition) {
+            ConstructorArgumentValues.ValueHolder holder =
+                    beanDefinition.getConstructorArgumentValues().getGenericArgumentValue(Object.class);
+            Object value = holder == null ? null : holder.getValue();
+            if (value instanceof Class<?> type) {
+                return type;
+            }
+            if (value instanceof String className) {
+                return ClassUtils.resolveClassName(className, beanDefinition.getBeanClass().getClassLoader());
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 型を解決済みの MapperFactoryBean を new MapperFactoryBean<>(マッパー.class) で生成するコードにする
+     * - プロパティ（sqlSessionTemplate など）は既定の生成コードのまま Bean 定義に設定される
+     */
+    static class MapperFactoryBeanAotProcessor implements BeanRegistrationAotProcessor {
+
+        @Override
+        public BeanRegistrationAotContribution processAheadOfTime(RegisteredBean registeredBean) {
+            if (!MapperFactoryBean.class.equals(registeredBean.getBeanClass())) {
+                return null;
+            }
+            Class<?> mapperInterface = registeredBean.getBeanType().getGeneric(0).resolve();
+            if (mapperInterface == null) {
+                return null; // 型を解決できない場合は既定の生成コードのまま
+            }
+            return BeanRegistrationAotContribution.withCustomCodeFragments(fragments ->
+                    new BeanRegistrationCodeFragmentsDecorator(fragments) {
+                        @Override
+                        public CodeBlock generateInstanceSupplierCode(GenerationContext generationContext,
+                                                                      BeanRegistrationCode beanRegistrationCode,
+                                                                      boolean allowDirectSupplierShortcut) {
+                            return CodeBlock.of("$T.using(() -> new $T<>($T.class))",
+                                    InstanceSupplier.class, MapperFactoryBean.class, mapperInterface);
+                        }
+                    });
+        }
+    }
+}
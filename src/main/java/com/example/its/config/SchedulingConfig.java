@@ -0,0 +1,23 @@
+package com.example.its.config;
+
+import com.example.its.domain.issue.IssueArchiver;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled のジョブ（IssueArchiver など）を有効にする
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    /**
+     * 遅延初期化（faststart プロファイル）でもジョブは起動時に作成する（作成されるまでスケジュールされないため）
+     */
+    @Bean
+    static LazyInitializationExcludeFilter scheduledJobsLazyInitializationExcludeFilter() {
+        return LazyInitializationExcludeFilter.forBeanTypes(IssueArchiver.class);
+    }
+}
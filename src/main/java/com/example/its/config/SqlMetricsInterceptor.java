@@ -0,0 +1,166 @@
+package com.example.its.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.ibatis.executor.BatchExecutor;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MyBatis のマップドステートメントごとに SQL の実行時間・件数・エラー数を記録するインターセプター
+ * - Micrometer に登録し、/actuator/metrics で確認できる
+ *   - mybatis.statement        実行時間（ヒストグラム付き、statement / type タグ）
+ *   - mybatis.statement.rows   取得・更新件数
+ *   - mybatis.statement.errors エラー件数
+ * - しきい値（its.mybatis.slow-query-threshold）を超えた SQL はバインドパラメーター付きで WARN ログに出す
+ * - statement タグは「IssueRepository.searchIssues」のようにマッパー名とメソッド名で表す
+ */
+@Component
+@Intercepts({
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "queryCursor",
+                args = {MappedStatement.class, Object.class, RowBounds.class}),
+        @Signature(type = Executor.class, method = "update",
+                args = {MappedStatement.class, Object.class})
+})
+public class SqlMetricsInterceptor implements Interceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlMetricsInterceptor.class);
+
+    private final MeterRegistry meterRegistry;
+    private final long slowQueryThresholdNanos;
+    private final Map<String, StatementMeters> meters = new ConcurrentHashMap<>();
+
+    public SqlMetricsInterceptor(MeterRegistry meterRegistry,
+                                 @Value("${its.mybatis.slow-query-threshold:200ms}") Duration slowQueryThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.slowQueryThresholdNanos = slowQueryThreshold.toNanos();
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement statement = (MappedStatement) invocation.getArgs()[0];
+        Object parameter = invocation.getArgs()[1];
+        StatementMeters statementMeters = meters.computeIfAbsent(statement.getId(), id -> new StatementMeters(statement));
+
+        long started = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            long elapsed = System.nanoTime() - started;
+            statementMeters.timer.record(elapsed, TimeUnit.NANOSECONDS);
+            long rows = rowCount(result);
+            if (rows >= 0) {
+                statementMeters.rows.record(rows);
+            }
+            if (elapsed >= slowQueryThresholdNanos) {
+                logSlowQuery(statement, parameter, elapsed, rows);
+            }
+            return result;
+        } catch (Throwable e) {
+            statementMeters.timer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            statementMeters.errors.increment();
+            throw e;
+        }
+    }
+
+    /**
+     * 取得件数（SELECT）または更新件数（INSERT / UPDATE / DELETE）
+     * - Cursor や BATCH 実行のように実行時点で件数が分からない場合は -1
+     */
+    private long rowCount(Object result) {
+        if (result instanceof List<?> list) {
+            return list.size();
+        }
+        if (result instanceof Integer count && count != BatchExecutor.BATCH_UPDATE_RETURN_VALUE) {
+            return count;
+        }
+        return -1;
+    }
+
+    private void logSlowQuery(MappedStatement statement, Object parameter, long elapsedNanos, long rows) {
+        BoundSql boundSql = statement.getBoundSql(parameter);
+        logger.warn("スロークエリ: {} {}ms rows={} sql=[{}] parameters={}",
+                statement.getId(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos), rows,
+                boundSql.getSql().replaceAll("\\s+", " ").trim(),
+                parameterValues(statement.getConfiguration(), boundSql, parameter));
+    }
+
+    /**
+     * バインドパラメーターの値を ? の順に取り出す（DefaultParameterHandler と同じ解決方法）
+     */
+    private List<Object> parameterValues(Configuration configuration, BoundSql boundSql, Object parameter) {
+        List<Object> values = new ArrayList<>();
+        for (ParameterMapping mapping : boundSql.getParameterMappings()) {
+            String property = mapping.getProperty();
+            if (boundSql.hasAdditionalParameter(property)) {
+                values.add(boundSql.getAdditionalParameter(property));
+            } else if (parameter == null) {
+                values.add(null);
+            } else if (configuration.getTypeHandlerRegistry().hasTypeHandler(parameter.getClass())) {
+                values.add(parameter);
+            } else {
+                values.add(configuration.newMetaObject(parameter).getValue(property));
+            }
+        }
+        return values;
+    }
+
+    /**
+     * 1つのマップドステートメントのメーター
+     */
+    private final class StatementMeters {
+        private final Timer timer;
+        private final DistributionSummary rows;
+        private final Counter errors;
+
+        private StatementMeters(MappedStatement statement) {
+            String name = shortName(statement.getId());
+            String type = statement.getSqlCommandType().name();
+            this.timer = Timer.builder("mybatis.statement")
+                    .description("MyBatis のステートメント実行時間")
+                    .tags("statement", name, "type", type)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            this.rows = DistributionSummary.builder("mybatis.statement.rows")
+                    .description("MyBatis のステートメントが取得・更新した件数")
+                    .tags("statement", name, "type", type)
+                    .register(meterRegistry);
+            this.errors = Counter.builder("mybatis.statement.errors")
+                    .description("MyBatis のステートメントのエラー件数")
+                    .tags("statement", name, "type", type)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * com.example.its.domain.issue.IssueRepository.searchIssues → IssueRepository.searchIssues
+     */
+    static String shortName(String statementId) {
+        int method = statementId.lastIndexOf('.');
+        int mapper = method > 0 ? statementId.lastIndexOf('.', method - 1) : -1;
+        return statementId.substring(mapper + 1);
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.its.domain.issue;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 作成者の辞書（creators）の ID と名前を相互に引くキャッシュ
+ * - 一覧・検索・エクスポートは creator_id だけを読み、名前はここで引く（ミスした分だけまとめて DB から読む）
+ * - 未登録の名前はそれだけのトランザクションで登録してすぐにコミットする
+ *   - idOf は呼び出し側のトランザクションの外で呼ぶ（接続を持ったまま2本目の接続を待つと、
+ *     同時に多数のリクエストが来たときにコネクションプールを使い切って全員がタイムアウトする）
+ *   - 後続の処理がロールバックしても辞書の行は残るが、参照されないだけで害は無い
+ * - 辞書の行の名前は変更しないため、キャッシュは件数の上限で追い出されるまで有効
+ * - ヒット・ミス・追い出し件数は /actuator/metrics の cache.* (cache=creatorName / creatorId) で確認できる
+ */
+@Component
+public class CreatorDictionary {
+
+    static final String NAME_CACHE = "creatorName";
+    static final String ID_CACHE = "creatorId";
+
+    private final CreatorRepository creatorRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<Long, String> names; // ID → 名前
+    private final Cache<String, Long> ids; // 名前 → ID
+
+    public CreatorDictionary(CreatorRepository creatorRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${its.issue.creator-cache.maximum-size:10000}") long maximumSize,
+                             MeterRegistry meterRegistry) {
+        this.creatorRepository = creatorRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.names = Caffeine.newBuilder().maximumSize(maximumSize).recordStats().build();
+        this.ids = Caffeine.newBuilder().maximumSize(maximumSize).recordStats().build();
+        CaffeineCacheMetrics.monitor(meterRegistry, names, NAME_CACHE);
+        CaffeineCacheMetrics.monitor(meterRegistry, ids, ID_CACHE);
+    }
+
+    /**
+     * 名前から作成者IDを引く（未登録の場合は登録する）
+     *
+     * @param name 作成者名
+     * @return 作成者ID
+     * @throws IllegalArgumentException name が空の場合
+     * @throws IllegalStateException     トランザクション内で呼び出した場合
+     */
+    public long idOf(String name) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("creatorName は必須です");
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("作成者IDはトランザクションを始める前に引いてください");
+        }
+        return ids.get(name, this::findOrCreate);
+    }
+
+    /**
+     * 作成者IDから名前を引く
+     *
+     * @param id 作成者ID（null の場合は null を返す）
+     * @return 作成者名（存在しない場合は null）
+     */
+    public String nameOf(Long id) {
+        if (id == null) {
+            return null;
+        }
+        return namesOf(List.of(id)).get(id);
+    }
+
+    /**
+     * 作成者IDから名前をまとめて引く（キャッシュに無い分は1回の問い合わせで読み込む）
+     *
+     * @param creatorIds 作成者ID（null は無視する）
+     * @return 作成者ID → 名前（存在しない ID は含まない）
+     */
+    public Map<Long, String> namesOf(Collection<Long> creatorIds) {
+        Set<Long> keys = creatorIds.stream().filter(Objects::nonNull).collect(Collectors.toCollection(HashSet::new));
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        return names.getAll(keys, missing -> creatorRepository.findByIds(new HashSet<>(missing)).stream()
+                .collect(Collectors.toMap(CreatorEntity::getId, CreatorEntity::getName)));
+    }
+
+    private long findOrCreate(String name) {
+        CreatorEntity creator;
+        try {
+            creator = transactionTemplate.execute(status -> creatorRepository.findByName(name).orElseGet(() -> {
+                CreatorEntity created = new CreatorEntity(null, name);
+                creatorRepository.insertCreatorEntry(created);
+                return created;
+            }));
+        } catch (DuplicateKeyException e) {
+            // 同じ名前を他のリクエストが先に登録した
+            creator = transactionTemplate.execute(status -> creatorRepository.findByName(name).orElseThrow());
+        }
+        names.put(creator.getId(), name);
+        return creator.getId();
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.its.domain.issue;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 作成者の辞書（creators の1行）
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class CreatorEntity {
+    private Long id;
+    private String name;
+}
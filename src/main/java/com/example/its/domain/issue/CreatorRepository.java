@@ -0,0 +1,47 @@
+package com.example.its.domain.issue;
+
+import org.apache.ibatis.annotations.*;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 作成者の辞書（creators）を扱うリポジトリインターフェース
+ * - 名前と ID の対応は CreatorDictionary がキャッシュする（直接呼び出さない）
+ */
+@Mapper
+public interface CreatorRepository {
+
+    /**
+     * 名前から作成者を取得する
+     *
+     * @param name 作成者名
+     * @return 作成者（未登録の場合は empty）
+     */
+    @Select("SELECT id, name FROM creators WHERE name = #{name}")
+    Optional<CreatorEntity> findByName(@Param("name") String name);
+
+    /**
+     * ID から作成者をまとめて取得する
+     *
+     * @param ids 作成者ID
+     * @return 作成者のリスト（存在しない ID は含まない）
+     */
+    @Select("""
+        <script>
+        SELECT id, name FROM creators
+        WHERE id IN <foreach item="id" collection="ids" open="(" separator="," close=")">#{id}</foreach>
+        </script>
+    """)
+    List<CreatorEntity> findByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 作成者を登録する（名前が既に登録されている場合は一意制約違反）
+     *
+     * @param creator 作成者（登録後に採番された ID が入る）
+     */
+    @Insert("INSERT INTO creators (name) VALUES (#{name})")
+    @Options(useGeneratedKeys = true, keyProperty = "id") // 自動生成されたIDを取得
+    void insertCreatorEntry(CreatorEntity creator);
+}
@@ -0,0 +1,96 @@
+package com.example.its.domain.issue;
+
+import org.apache.ibatis.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 論理削除された課題をアーカイブテーブルへ移すためのリポジトリインターフェース
+ * - IssueArchiver がバッチ（課題IDのリスト）単位で呼び出す
+ * - 移す順序は issues_archive → issues_creator_archive → issues_creator の削除 → issues の削除
+ */
+@Mapper
+public interface IssueArchiveRepository {
+
+    /**
+     * アーカイブの対象となる課題IDを ID 順に取得する
+     * - 削除日時が無い（deleted_at 追加前に削除された）課題は更新日時で判定する
+     *
+     * @param deletedBefore この日時より前に削除された課題が対象
+     * @param limit         取得する最大件数
+     * @return 課題IDのリスト（ID 昇順）
+     */
+    @Select("""
+        SELECT id FROM issues
+        WHERE is_deleted = true
+        AND COALESCE(deleted_at, updated_at) < #{deletedBefore}
+        ORDER BY id
+        LIMIT #{limit}
+    """)
+    List<Long> findArchivableIssueIds(@Param("deletedBefore") LocalDateTime deletedBefore, @Param("limit") int limit);
+
+    /**
+     * 課題をアーカイブテーブルへコピーする
+     *
+     * @param ids 課題ID
+     * @return コピーした件数
+     */
+    @Insert("""
+        <script>
+        INSERT INTO issues_archive (id, summary, description, created_at, updated_at, deleted_at, version)
+        SELECT id, summary, description, created_at, updated_at, deleted_at, version
+        FROM issues
+        WHERE id IN <foreach item="id" collection="ids" open="(" separator="," close=")">#{id}</foreach>
+        AND is_deleted = true
+        </script>
+    """)
+    int copyIssues(@Param("ids") List<Long> ids);
+
+    /**
+     * 課題の作成者をアーカイブテーブルへコピーする
+     * - アーカイブは辞書（creators）に依存させず、作成者名のまま残す
+     *
+     * @param ids 課題ID
+     * @return コピーした件数
+     */
+    @Insert("""
+        <script>
+        INSERT INTO issues_creator_archive (issues_creator_id, issue_id, creator_name, touroku_date)
+        SELECT ic.issues_creator_id, ic.issue_id, c.name, ic.touroku_date
+        FROM issues_creator ic
+        JOIN creators c ON c.id = ic.creator_id
+        WHERE ic.issue_id IN <foreach item="id" collection="ids" open="(" separator="," close=")">#{id}</foreach>
+        </script>
+    """)
+    int copyCreators(@Param("ids") List<Long> ids);
+
+    /**
+     * 課題の作成者を削除する（外部キーがあるため課題より先に削除する）
+     *
+     * @param ids 課題ID
+     * @return 削除した件数
+     */
+    @Delete("""
+        <script>
+        DELETE FROM issues_creator
+        WHERE issue_id IN <foreach item="id" collection="ids" open="(" separator="," close=")">#{id}</foreach>
+        </script>
+    """)
+    int deleteCreators(@Param("ids") List<Long> ids);
+
+    /**
+     * 課題を削除する（論理削除されたものだけ）
+     *
+     * @param ids 課題ID
+     * @return 削除した件数
+     */
+    @Delete("""
+        <script>
+        DELETE FROM issues
+        WHERE id IN <foreach item="id" collection="ids" open="(" separator="," close=")">#{id}</foreach>
+        AND is_deleted = true
+        </script>
+    """)
+    int deleteIssues(@Param("ids") List<Long> ids);
+}
@@ -0,0 +1,95 @@
+package com.example.its.domain.issue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 論理削除から一定期間（its.issue.archive.retention）が過ぎた課題をアーカイブテーブルへ移すジョブ
+ * - issues を小さく保ち、削除済みの課題が概要（summary の一意制約）を使い続けないようにする
+ * - batchSize 件ずつ別のトランザクションで移すため、長時間ロックを持たない
+ * - 1回の実行で移す件数は batchSize × maxBatches まで（残りは次回の実行で移す）
+ */
+@Component
+public class IssueArchiver {
+
+    private static final Logger logger = LoggerFactory.getLogger(IssueArchiver.class);
+
+    private final IssueArchiveRepository issueArchiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Duration retention;
+    private final int batchSize;
+    private final int maxBatches;
+
+    public IssueArchiver(IssueArchiveRepository issueArchiveRepository,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${its.issue.archive.enabled:true}") boolean enabled,
+                         @Value("${its.issue.archive.retention:30d}") Duration retention,
+                         @Value("${its.issue.archive.batch-size:500}") int batchSize,
+                         @Value("${its.issue.archive.max-batches:100}") int maxBatches) {
+        this.issueArchiveRepository = issueArchiveRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+    }
+
+    @Scheduled(initialDelayString = "${its.issue.archive.initial-delay:1m}",
+               fixedDelayString = "${its.issue.archive.interval:1h}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        int archived = archive(LocalDateTime.now().minus(retention));
+        if (archived > 0) {
+            logger.info("★ アーカイブ完了: {}件, {}ms", archived, System.currentTimeMillis() - started);
+        }
+    }
+
+    /**
+     * 指定日時より前に削除された課題をアーカイブテーブルへ移す
+     *
+     * @param deletedBefore この日時より前に削除された課題が対象
+     * @return 移した課題の件数
+     */
+    public int archive(LocalDateTime deletedBefore) {
+        int archived = 0;
+        for (int i = 0; i < maxBatches; i++) {
+            List<Long> ids = issueArchiveRepository.findArchivableIssueIds(deletedBefore, batchSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            archived += transactionTemplate.execute(status -> archiveBatch(ids));
+            if (ids.size() < batchSize) {
+                break;
+            }
+        }
+        return archived;
+    }
+
+    /**
+     * 1バッチ分を1トランザクションで移す
+     */
+    private int archiveBatch(List<Long> ids) {
+        int copied = issueArchiveRepository.copyIssues(ids);
+        issueArchiveRepository.copyCreators(ids);
+        issueArchiveRepository.deleteCreators(ids);
+        int deleted = issueArchiveRepository.deleteIssues(ids);
+        if (copied != deleted) {
+            // 取得後に状態が変わった場合は、このバッチを取り消して次回に回す
+            throw new IllegalStateException("アーカイブ中に課題が変更されました: copied=" + copied + ", deleted=" + deleted);
+        }
+        return deleted;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.its.domain.issue;
+
+/**
+ * 一括操作（IssueService#deleteIssues / reassignCreator）での課題ごとの結果
+ * - SUCCEEDED 以外は操作しなかった理由を表す
+ */
+public enum IssueBulkOutcome {
+    /** 削除・変更した */
+    SUCCEEDED,
+    /** 登録者が既に指定した名前になっている（登録者の変更のみ） */
+    UNCHANGED,
+    /** 指定された課題は（既に）削除されている */
+    DELETED,
+    /** 指定された課題が存在しない */
+    NOT_FOUND
+}
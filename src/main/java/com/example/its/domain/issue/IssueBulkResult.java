@@ -0,0 +1,41 @@
+package com.example.its.domain.issue;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 一括操作の結果
+ * - items に指定された順で課題IDごとの結果を入れる（重複したIDは1件にまとめる）
+ */
+@Data
+public class IssueBulkResult {
+    private final List<Item> items = new ArrayList<>();
+
+    void add(long id, IssueBulkOutcome outcome) {
+        items.add(new Item(id, outcome));
+    }
+
+    /**
+     * 削除・変更できた件数
+     */
+    public long getSucceeded() {
+        return count(IssueBulkOutcome.SUCCEEDED);
+    }
+
+    /**
+     * 指定した結果になった件数
+     */
+    public long count(IssueBulkOutcome outcome) {
+        return items.stream().filter(item -> item.getOutcome() == outcome).count();
+    }
+
+    @AllArgsConstructor
+    @Data
+    public static class Item {
+        private long id;
+        private IssueBulkOutcome outcome;
+    }
+}
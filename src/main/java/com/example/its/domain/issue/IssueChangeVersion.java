@@ -0,0 +1,93 @@
+package com.example.its.domain.issue;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 課題全体の変更バージョン（条件付き GET の ETag に使う）
+ * - 課題の登録・更新・削除のコミット後に1つ進める
+ * - 再起動でインメモリ DB の内容が変わるため、ETag には起動時刻を含める
+ * - Last-Modified は使わない（HTTP の日時は秒単位のため、同じ秒の2回目の変更を見逃して古い内容に 304 を返してしまう）
+ * - 変更履歴は非同期に書き込まれるため、課題ごとの履歴のバージョンも別に持つ（詳細画面の 304 で DB を読まないため）
+ */
+@Component
+public class IssueChangeVersion {
+
+    private final long startedAt = System.currentTimeMillis();
+    private static final long HISTORY_VERSION_LIMIT = 100_000; // 履歴のバージョンを覚えておく課題の件数
+
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicLong historyVersion = new AtomicLong();
+    private final Cache<Long, Long> historyVersions = Caffeine.newBuilder() // 課題ID → 最後に履歴を書き込んだときの historyVersion
+            .maximumSize(HISTORY_VERSION_LIMIT)
+            .build();
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIssueChanged(IssueChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    /**
+     * 変更履歴の書き込みを記録する（IssueHistoryWriter が書き込みのコミット後に呼ぶ）
+     *
+     * @param issueIds 履歴を書き込んだ課題ID
+     */
+    public void onHistoryWritten(Collection<Long> issueIds) {
+        long next = historyVersion.incrementAndGet();
+        issueIds.forEach(issueId -> historyVersions.put(issueId, next));
+    }
+
+    /**
+     * 課題の変更履歴のバージョン（その課題の履歴が書き込まれると進む）
+     * - 覚えていない課題（起動後に履歴が書き込まれていない・件数上限で追い出された）は全体のバージョンを返す
+     *   （どの課題の履歴が書き込まれても変わるため、304 が減るだけで古い内容に 304 を返すことはない）
+     *
+     * @param issueId 課題ID
+     */
+    public long historyVersion(long issueId) {
+        Long written = historyVersions.getIfPresent(issueId);
+        return written != null ? written : historyVersion.get();
+    }
+
+    /**
+     * 現在のバージョン（起動時は 0）
+     */
+    public long current() {
+        return version.get();
+    }
+
+    /**
+     * 課題一覧の ETag（どの課題が変わっても変わる）
+     */
+    public String etag() {
+        return "\"" + Long.toString(startedAt, 36) + "-" + current() + "\"";
+    }
+
+    /**
+     * 課題詳細の ETag（その課題のバージョンが変わると変わる）
+     *
+     * @param issueId 課題ID
+     * @param version 課題のバージョン（更新のたびに1つ進む）
+     */
+    public String etag(long issueId, long version) {
+        return "\"" + Long.toString(startedAt, 36) + "-" + issueId + "-v" + version + "\"";
+    }
+
+    /**
+     * 変更履歴を含む課題詳細の ETag（課題のバージョンか履歴のバージョンが変わると変わる）
+     * - 履歴は非同期に書き込まれるため、課題が変わらなくても後から履歴だけが増える場合がある
+     * - 履歴を読む前に呼ぶ（読んだ後だと、その間に書き込まれた履歴を含まない内容に新しい ETag を付けてしまう）
+     *
+     * @param issueId 課題ID
+     * @param version 課題のバージョン
+     */
+    public String etagWithHistory(long issueId, long version) {
+        String etag = etag(issueId, version);
+        return etag.substring(0, etag.length() - 1) + "-h" + historyVersion(issueId) + "\"";
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.its.domain.issue;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 課題の登録・更新・削除を通知するイベント
+ * - IssueService が発行し、検索インデックスなどがコミット後に受け取る
+ * - DELETED の場合、summary / description / creatorName は null
+ */
+@AllArgsConstructor
+@Data
+public class IssueChangedEvent {
+
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    private Type type;
+    private long issueId;
+    private String summary;
+    private String description;
+    private String creatorName;
+
+    public static IssueChangedEvent created(long issueId, String summary, String description, String creatorName) {
+        return new IssueChangedEvent(Type.CREATED, issueId, summary, description, creatorName);
+    }
+
+    public static IssueChangedEvent updated(long issueId, String summary, String description, String creatorName) {
+        return new IssueChangedEvent(Type.UPDATED, issueId, summary, description, creatorName);
+    }
+
+    public static IssueChangedEvent deleted(long issueId) {
+        return new IssueChangedEvent(Type.DELETED, issueId, null, null, null);
+    }
+}
@@ -7,8 +7,8 @@ import lombok.Data;
 @Data
 public class IssueCreatorEntity {
 
-    private String issues_creator_id;
-    private String issue_id;
-    private String creator_name;
+    private long issues_creator_id;
+    private long issue_id;
+    private long creator_id; // creators の ID（名前は CreatorDictionary で引く）
     private String touroku_date;
 }
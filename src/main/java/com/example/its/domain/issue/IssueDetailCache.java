@@ -0,0 +1,88 @@
+package com.example.its.domain.issue;
+
+import com.example.its.web.issue.IssueForm;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 課題詳細の読み込みキャッシュ（リードスルー）
+ * - 件数上限と TTL で追い出す
+ * - 課題の更新・削除はコミット後にその課題IDだけを無効化する
+ * - ヒット・ミス・追い出し件数は /actuator/metrics の cache.* (cache=issueDetail) で確認できる
+ */
+@Component
+public class IssueDetailCache {
+
+    static final String CACHE_NAME = "issueDetail";
+
+    private final Cache<Long, IssueForm> cache;
+
+    public IssueDetailCache(@Value("${its.issue.detail-cache.maximum-size:10000}") long maximumSize,
+                            @Value("${its.issue.detail-cache.ttl:10m}") Duration ttl,
+                            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * キャッシュから課題詳細を取得する（無い場合は loader で読み込んでキャッシュする）
+     * - 存在しない課題はキャッシュしない
+     * - 呼び出し側で変更されても影響しないよう、コピーを返す
+     *
+     * @param issueId 課題ID
+     * @param loader  キャッシュに無い場合の読み込み処理
+     * @return 課題の詳細情報（存在しない場合は empty）
+     */
+    public Optional<IssueForm> get(long issueId, Function<Long, Optional<IssueForm>> loader) {
+        IssueForm cached = cache.get(issueId, id -> loader.apply(id).orElse(null));
+        return Optional.ofNullable(cached).map(IssueDetailCache::copy);
+    }
+
+    /**
+     * 指定された課題のキャッシュを無効化する
+     *
+     * @param issueId 課題ID
+     */
+    public void invalidate(long issueId) {
+        cache.invalidate(issueId);
+    }
+
+    /**
+     * 課題の更新・削除をキャッシュに反映する（トランザクションのコミット後に実行）
+     * - 読み込み中の同じ課題があれば、その読み込みが終わってから無効化される
+     *
+     * @param event 課題の変更イベント
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIssueChanged(IssueChangedEvent event) {
+        if (event.getType() != IssueChangedEvent.Type.CREATED) {
+            invalidate(event.getIssueId());
+        }
+    }
+
+    /**
+     * ヒット・ミス・追い出し件数などの統計
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private static IssueForm copy(IssueForm form) {
+        return new IssueForm(form.getId(), form.getSummary(), form.getDescription(), form.getCreatorName(),
+                form.getCreated_at(), form.getUpdated_at(), form.getVersion(), form.isDeleted());
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.its.domain.issue;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * エクスポート1行分（課題と作成者名）
+ * - DB からは作成者IDだけを読み、作成者名は IssueExportService が CreatorDictionary で埋める
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueExportRow {
+    private long id;
+    private String summary;
+    private String description;
+    private String creatorName;
+    private String createdAt;
+    private String updatedAt;
+    private Long creatorId; // creators の ID
+}
@@ -0,0 +1,105 @@
+package com.example.its.domain.issue;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 課題のエクスポートを担当するサービスクラス
+ * - MyBatis の Cursor で1件ずつ読み込み、そのまま書き出し側に渡す（全件をメモリに載せない）
+ * - 作成者名は CreatorDictionary から引く（キャッシュに無い作成者だけ DB を読む）
+ * - 書き出しの間はクライアントが読み終えるまでプールの接続を保持するため、同時に実行できる数を maxConcurrent に抑える
+ *   （呼び出し側は tryStartExport で枠を確保し、書き出し後に finishExport で返す）
+ */
+@Service
+public class IssueExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IssueExportService.class);
+    public static final int MAX_KEYWORD_LENGTH = 256; // 一覧の検索と同じ上限
+    private final IssueRepository issueRepository;
+    private final CreatorDictionary creatorDictionary;
+    private final Semaphore exports; // 同時に実行できるエクスポートの枠
+
+    public IssueExportService(IssueRepository issueRepository,
+                              CreatorDictionary creatorDictionary,
+                              @Value("${its.issue.export.max-concurrent:4}") int maxConcurrent) {
+        if (maxConcurrent <= 0) {
+            throw new IllegalArgumentException("max-concurrent は正の数値である必要があります");
+        }
+        this.issueRepository = issueRepository;
+        this.creatorDictionary = creatorDictionary;
+        this.exports = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * エクスポートの枠を確保する（待たない）
+     *
+     * @return 確保できた場合は true（書き出しの後に必ず finishExport を呼ぶ）。上限に達している場合は false
+     */
+    public boolean tryStartExport() {
+        return exports.tryAcquire();
+    }
+
+    /**
+     * tryStartExport で確保した枠を返す
+     */
+    public void finishExport() {
+        exports.release();
+    }
+
+    /**
+     * 1行ずつ書き出す処理
+     */
+    @FunctionalInterface
+    public interface RowWriter {
+        void write(IssueExportRow row) throws IOException;
+    }
+
+    /**
+     * 削除されていない全課題を作成者名付きで ID 順に書き出す
+     *
+     * @param writer 1行ずつ書き出す処理
+     * @return 書き出した件数
+     */
+    @Transactional(readOnly = true)
+    public long exportActiveIssues(RowWriter writer) {
+        return exportActiveIssues(null, writer);
+    }
+
+    /**
+     * 削除されていない課題を作成者名付きで ID 順に書き出す（keyword を指定すると検索結果だけ）
+     * - Cursor を読み終えるまで接続を保持するため、読み取り専用トランザクション内で実行する
+     * - キーワードは一覧の検索と同じく IssueTextNormalizer で正規化して比較する
+     *
+     * @param keyword 検索キーワード（null または空文字の場合は全件が対象）
+     * @param writer  1行ずつ書き出す処理
+     * @return 書き出した件数
+     */
+    @Transactional(readOnly = true)
+    public long exportActiveIssues(String keyword, RowWriter writer) {
+        if (keyword != null && keyword.length() > MAX_KEYWORD_LENGTH) {
+            throw new IllegalArgumentException("検索キーワードが長すぎます");
+        }
+        String normalizedKeyword = keyword == null || keyword.trim().isEmpty() ? null : IssueTextNormalizer.normalize(keyword);
+        long started = System.currentTimeMillis();
+        long count = 0;
+        try (Cursor<IssueExportRow> cursor = issueRepository.streamActiveIssuesWithCreator(normalizedKeyword)) {
+            for (IssueExportRow row : cursor) {
+                row.setCreatorName(creatorDictionary.nameOf(row.getCreatorId()));
+                writer.write(row);
+                count++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // クライアントの切断など
+        }
+        logger.info("★ エクスポート完了: 件数={}, {}ms", count, System.currentTimeMillis() - started);
+        return count;
+    }
+}
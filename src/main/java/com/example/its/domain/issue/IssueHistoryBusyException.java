@@ -0,0 +1,13 @@
+package com.example.its.domain.issue;
+
+/**
+ * 変更履歴の書き込みが追いつかず、課題を変更しなかったことを表す例外
+ * - IssueHistoryWriter が、変更のトランザクションを始める前に履歴の枠を確保できなかった場合に投げる
+ * - 変更は行っていないため、画面・API では 503 としてやり直してもらう
+ */
+public class IssueHistoryBusyException extends RuntimeException {
+
+    public IssueHistoryBusyException(String message) {
+        super(message);
+    }
+}
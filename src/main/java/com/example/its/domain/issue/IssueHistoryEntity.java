@@ -0,0 +1,36 @@
+package com.example.its.domain.issue;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 課題の変更履歴（issue_history の1行）
+ * - summary / description / creatorName は変更後の内容（DELETED の場合は null）
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class IssueHistoryEntity {
+
+    private Long id;
+    private long issueId;
+    private IssueChangedEvent.Type changeType;
+    private String summary;
+    private String description;
+    private String creatorName;
+    private LocalDateTime changedAt;
+
+    /**
+     * 課題の変更イベントから履歴を作る
+     *
+     * @param event     課題の変更イベント
+     * @param changedAt 変更日時
+     */
+    public static IssueHistoryEntity of(IssueChangedEvent event, LocalDateTime changedAt) {
+        return new IssueHistoryEntity(null, event.getIssueId(), event.getType(), event.getSummary(),
+                event.getDescription(), event.getCreatorName(), changedAt);
+    }
+}
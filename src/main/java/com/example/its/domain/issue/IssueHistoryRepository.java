@@ -0,0 +1,47 @@
+package com.example.its.domain.issue;
+
+import org.apache.ibatis.annotations.*;
+
+import java.util.List;
+
+/**
+ * 課題の変更履歴を扱うリポジトリインターフェース
+ * - 書き込みは IssueHistoryWriter がまとめて行う
+ */
+@Mapper
+public interface IssueHistoryRepository {
+
+    /**
+     * 変更履歴を1回の INSERT でまとめて登録する
+     *
+     * @param histories 変更履歴
+     * @return 登録した件数
+     */
+    @Insert("""
+        <script>
+        INSERT INTO issue_history (issue_id, change_type, summary, description, creator_name, changed_at)
+        VALUES
+        <foreach item="h" collection="histories" separator=",">
+            (#{h.issueId}, #{h.changeType}, #{h.summary}, #{h.description}, #{h.creatorName}, #{h.changedAt})
+        </foreach>
+        </script>
+    """)
+    int insertAll(@Param("histories") List<IssueHistoryEntity> histories);
+
+    /**
+     * 課題の変更履歴を新しい順に取得する
+     *
+     * @param issueId 課題ID
+     * @param limit   取得する最大件数
+     * @return 変更履歴のリスト（新しい順）
+     */
+    @Select("""
+        SELECT id, issue_id AS issueId, change_type AS changeType, summary, description,
+               creator_name AS creatorName, changed_at AS changedAt
+        FROM issue_history
+        WHERE issue_id = #{issueId}
+        ORDER BY id DESC
+        LIMIT #{limit}
+    """)
+    List<IssueHistoryEntity> findByIssueId(@Param("issueId") long issueId, @Param("limit") int limit);
+}
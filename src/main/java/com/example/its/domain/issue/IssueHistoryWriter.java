@@ -0,0 +1,345 @@
+package com.example.its.domain.issue;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 課題の変更履歴を非同期にまとめて書き込むライター
+ * - 課題の登録・更新・削除のコミット後にキューへ積むだけなので、更新のトランザクションを長くしない
+ * - 専用のスレッドが最大 batchSize 件（または flushInterval 待って集まった分）を1回の INSERT で書き込む
+ * - 背圧はトランザクションを始める前にかける（withSlots）
+ *   - 変更する側は、コミットしうる変更の件数分の枠（合計 queueCapacity 件）を確保してからトランザクションを始める
+ *   - 書き込みが追いつかず枠が空かない場合は、接続を持つ前に最大 reserveTimeout 待ち、空かなければ
+ *     IssueHistoryBusyException で変更を断る（件数は its.issue.history.rejected）
+ *   - コミット後のリスナーは確保済みの枠に積むだけなので待たず、コミットした変更の履歴を捨てない
+ *     （リスナーで待たせると、リクエストのスレッドがプールの接続を使い切り、書き込みスレッドが接続を取れなくなる）
+ *   - 枠は履歴を書き込んだ時点で返る
+ * - 書き込みに失敗したバッチは捨てずに retryInterval ごとに書き込み直す（失敗回数は its.issue.history.failures）
+ *   - 書き込み直している間に積まれた履歴はキューで待つ
+ * - 停止時（通常のシャットダウン）は Web サーバーの停止後に残りを全て書き込んでから止まる
+ *   - 停止時にも書き込めなかった履歴と、プロセスが異常終了した場合にキューに残っていた履歴は失われる
+ * - 書き込んだ課題は IssueChangeVersion に知らせる（課題詳細の ETag が変わる）
+ * - キューの件数は /actuator/metrics の its.issue.history.queue で確認できる
+ */
+@Component
+public class IssueHistoryWriter implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(IssueHistoryWriter.class);
+    private static final long POLL_MILLIS = 50; // 停止の確認間隔
+
+    private final IssueHistoryRepository issueHistoryRepository;
+    private final IssueChangeVersion issueChangeVersion;
+    private final BlockingQueue<IssueHistoryEntity> queue = new LinkedBlockingQueue<>(); // 件数は枠で抑える
+    private final int queueCapacity;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final Duration retryInterval;
+    private final Duration reserveTimeout;
+    private final ReentrantLock slotLock = new ReentrantLock();
+    private final Condition slotReleased = slotLock.newCondition();
+    private int usedSlots; // 確保済みの枠（これから積む履歴 + キュー・書き込み中の履歴）
+    private final ThreadLocal<int[]> reservedSlots = new ThreadLocal<>(); // このスレッドが確保し、まだ積んでいない枠
+    private final Counter rejected;
+    private final Counter failures;
+    private volatile boolean running;
+    private Thread thread;
+
+    public IssueHistoryWriter(IssueHistoryRepository issueHistoryRepository,
+                              IssueChangeVersion issueChangeVersion,
+                              @Value("${its.issue.history.queue-capacity:10000}") int queueCapacity,
+                              @Value("${its.issue.history.batch-size:100}") int batchSize,
+                              @Value("${its.issue.history.flush-interval:200ms}") Duration flushInterval,
+                              @Value("${its.issue.history.retry-interval:1s}") Duration retryInterval,
+                              @Value("${its.issue.history.reserve-timeout:2s}") Duration reserveTimeout,
+                              MeterRegistry meterRegistry) {
+        if (queueCapacity <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("queue-capacity と batch-size は正の数値である必要があります");
+        }
+        this.issueHistoryRepository = issueHistoryRepository;
+        this.issueChangeVersion = issueChangeVersion;
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.retryInterval = retryInterval;
+        this.reserveTimeout = reserveTimeout;
+        Gauge.builder("its.issue.history.queue", queue, BlockingQueue::size)
+                .description("書き込み待ちの課題の変更履歴の件数")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("its.issue.history.rejected")
+                .description("変更履歴の枠が空かずに断った課題の変更の回数")
+                .register(meterRegistry);
+        this.failures = Counter.builder("its.issue.history.failures")
+                .description("課題の変更履歴の書き込みに失敗した回数")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 課題の変更を履歴のキューへ積む（トランザクションのコミット後に実行）
+     *
+     * @param event 課題の変更イベント
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIssueChanged(IssueChangedEvent event) {
+        enqueue(IssueHistoryEntity.of(event, LocalDateTime.now()));
+    }
+
+    /**
+     * 変更履歴 count 件分の枠を確保してから action（課題を変更するトランザクション）を実行する
+     * - 枠が空かない間は最大 reserveTimeout 待つ（呼び出し側はまだ DB の接続を持っていない）
+     * - action の中でコミットされた変更の履歴は確保した枠に積み、使わなかった枠は action の後に返す
+     *
+     * @param count  action でコミットされうる変更の最大件数
+     * @param action 課題を変更する処理
+     * @return action の戻り値
+     * @throws IssueHistoryBusyException 待っても枠が空かなかった場合（action は実行しない）
+     */
+    public <T> T withSlots(int count, Supplier<T> action) {
+        acquire(count);
+        int[] previous = reservedSlots.get();
+        int[] reserved = {count};
+        reservedSlots.set(reserved);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                reservedSlots.remove();
+            } else {
+                reservedSlots.set(previous);
+            }
+            release(reserved[0]);
+        }
+    }
+
+    /**
+     * 履歴をキューへ積む（待たない）
+     * - withSlots で確保した枠に積む。枠を確保せずに変更した場合も捨てずに積む（その分、次の確保が待つ）
+     * - 停止後（または開始前）は呼び出したスレッドでそのまま書き込む
+     *
+     * @param history 変更履歴
+     */
+    public void enqueue(IssueHistoryEntity history) {
+        int[] reserved = reservedSlots.get();
+        if (reserved != null && reserved[0] > 0) {
+            reserved[0]--;
+        } else {
+            addSlots(1);
+        }
+        if (!running) {
+            write(List.of(history));
+            release(1);
+            return;
+        }
+        queue.add(history);
+    }
+
+    /**
+     * 枠が count 件空くまで最大 reserveTimeout 待って確保する
+     * - 1回で queueCapacity 件を超える場合（大きな一括操作）は、他に確保されている枠が無くなるまで待つ
+     */
+    private void acquire(int count) {
+        long remaining = reserveTimeout.toNanos();
+        slotLock.lock();
+        try {
+            while (usedSlots > 0 && usedSlots + count > queueCapacity) {
+                if (remaining <= 0) {
+                    rejected.increment();
+                    throw new IssueHistoryBusyException("変更履歴の書き込みが混み合っています。しばらく待ってからやり直してください");
+                }
+                remaining = slotReleased.awaitNanos(remaining);
+            }
+            usedSlots += count;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rejected.increment();
+            throw new IssueHistoryBusyException("変更履歴の枠の確保を中断しました");
+        } finally {
+            slotLock.unlock();
+        }
+    }
+
+    private void addSlots(int count) {
+        slotLock.lock();
+        try {
+            usedSlots += count;
+        } finally {
+            slotLock.unlock();
+        }
+    }
+
+    private void release(int count) {
+        if (count == 0) {
+            return;
+        }
+        slotLock.lock();
+        try {
+            usedSlots -= count;
+            slotReleased.signalAll();
+        } finally {
+            slotLock.unlock();
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::drainLoop, "issue-history-writer");
+        thread.start();
+    }
+
+    /**
+     * 書き込みスレッドを止める（キューに残っている履歴は全て書き込む）
+     */
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushRemaining(); // スレッドの終了と入れ違いに積まれた履歴
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Web サーバー（リクエストの受け付け）より後に止める
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    /**
+     * キューの件数（テスト・監視用）
+     */
+    public int queued() {
+        return queue.size();
+    }
+
+    /**
+     * 確保済みの枠の件数（テスト・監視用）
+     */
+    public int usedSlots() {
+        slotLock.lock();
+        try {
+            return usedSlots;
+        } finally {
+            slotLock.unlock();
+        }
+    }
+
+    private void drainLoop() {
+        try {
+            while (running) {
+                IssueHistoryEntity first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<IssueHistoryEntity> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+                fill(batch);
+                while (!write(batch)) {
+                    if (!awaitRetry()) {
+                        write(batch); // 停止する前に最後にもう一度だけ書き込む
+                        break;
+                    }
+                }
+                release(batch.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushRemaining();
+    }
+
+    /**
+     * retryInterval だけ待つ（停止された場合は待つのをやめて false を返す）
+     */
+    private boolean awaitRetry() throws InterruptedException {
+        long deadline = System.nanoTime() + retryInterval.toNanos();
+        while (running) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return true;
+            }
+            TimeUnit.NANOSECONDS.sleep(Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(POLL_MILLIS)));
+        }
+        return false;
+    }
+
+    /**
+     * batchSize 件になるか flushInterval が過ぎるまで、キューから履歴を集める（停止時は待たない）
+     */
+    private void fill(List<IssueHistoryEntity> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + flushInterval.toNanos();
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                return;
+            }
+            IssueHistoryEntity next = queue.poll(Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(POLL_MILLIS)),
+                    TimeUnit.NANOSECONDS);
+            if (next != null) {
+                batch.add(next);
+            }
+        }
+    }
+
+    private void flushRemaining() {
+        while (true) {
+            List<IssueHistoryEntity> batch = new ArrayList<>(batchSize);
+            if (queue.drainTo(batch, batchSize) == 0) {
+                return;
+            }
+            write(batch);
+            release(batch.size());
+        }
+    }
+
+    /**
+     * バッチを書き込む
+     *
+     * @return 書き込めた場合は true（失敗した場合はログに残し、呼び出し側が書き込み直す）
+     */
+    private boolean write(List<IssueHistoryEntity> batch) {
+        try {
+            issueHistoryRepository.insertAll(batch);
+        } catch (RuntimeException e) {
+            failures.increment();
+            logger.error("★ 変更履歴の書き込みに失敗しました: {}件（issueId={}～{}）", batch.size(),
+                    batch.get(0).getIssueId(), batch.get(batch.size() - 1).getIssueId(), e);
+            return false;
+        }
+        issueChangeVersion.onHistoryWritten(batch.stream().map(IssueHistoryEntity::getIssueId).toList());
+        return true;
+    }
+}
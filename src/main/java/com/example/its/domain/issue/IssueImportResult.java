@@ -0,0 +1,50 @@
+package com.example.its.domain.issue;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 一括登録の結果
+ * - 登録できなかった行は errors に行番号と理由を入れる
+ * - 不正なファイルで応答が大きくならないよう、errors は maxErrors 件までにし、残りは件数（omittedErrors）だけを返す
+ */
+@Data
+public class IssueImportResult {
+    private int imported; // 登録できた件数
+    private final List<RowError> errors = new ArrayList<>();
+    private long omittedErrors; // errors に入れなかったエラーの件数
+    @JsonIgnore
+    private final int maxErrors;
+
+    public IssueImportResult(int maxErrors) {
+        this.maxErrors = maxErrors;
+    }
+
+    void addError(IssueImportRow row, String message) {
+        if (errors.size() < maxErrors) {
+            errors.add(new RowError(row.getLineNumber(), row.getSummary(), message));
+        } else {
+            omittedErrors++;
+        }
+    }
+
+    /**
+     * 登録できなかった行の件数（errors に入れなかった分も含む）
+     */
+    @JsonIgnore
+    public long getErrorCount() {
+        return errors.size() + omittedErrors;
+    }
+
+    @AllArgsConstructor
+    @Data
+    public static class RowError {
+        private long lineNumber;
+        private String summary;
+        private String message;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.its.domain.issue;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 一括登録の1行分
+ * - 読み込み時点で形式が不正だった場合は error にその理由が入る
+ */
+@AllArgsConstructor
+@Data
+public class IssueImportRow {
+    private long lineNumber; // 入力の行番号（1始まり）
+    private String summary;
+    private String description;
+    private String creatorName;
+    private String error;
+
+    public static IssueImportRow invalid(long lineNumber, String error) {
+        return new IssueImportRow(lineNumber, null, null, null, error);
+    }
+}
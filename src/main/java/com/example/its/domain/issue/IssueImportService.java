@@ -0,0 +1,203 @@
+package com.example.its.domain.issue;
+
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 課題の一括登録を担当するサービスクラス
+ * - MyBatis の BATCH 実行で issues / issues_creator をまとめて登録する
+ * - 概要の重複チェックはバッチごとに1回の問い合わせで行う
+ * - 作成者IDはバッチのトランザクションの前に、名前ごとに1回だけ CreatorDictionary で引く
+ * - バッチのトランザクションの前に変更履歴の枠を確保し、確保できなかったバッチの行は未登録として報告する
+ * - バッチごとにコミットするため、途中で失敗してもそれまでのバッチは登録済みになる
+ */
+@Service
+public class IssueImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IssueImportService.class);
+
+    private final SqlSessionTemplate batchSqlSession; // BATCH 実行用のセッション（通常のマッパーとは別）
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CreatorDictionary creatorDictionary;
+    private final IssueHistoryWriter issueHistoryWriter;
+    private final int batchSize;
+    private final int maxErrors;
+
+    public IssueImportService(SqlSessionFactory sqlSessionFactory,
+                              PlatformTransactionManager transactionManager,
+                              ApplicationEventPublisher eventPublisher,
+                              CreatorDictionary creatorDictionary,
+                              IssueHistoryWriter issueHistoryWriter,
+                              @Value("${its.issue.import.batch-size:1000}") int batchSize,
+                              @Value("${its.issue.import.max-errors:100}") int maxErrors) {
+        this.batchSqlSession = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.creatorDictionary = creatorDictionary;
+        this.issueHistoryWriter = issueHistoryWriter;
+        this.batchSize = batchSize;
+        this.maxErrors = maxErrors;
+    }
+
+    /**
+     * 課題を一括登録する
+     *
+     * @param rows 登録する行（先頭から順に batchSize 件ずつ処理する）
+     * @return 登録件数と、登録できなかった行の理由
+     */
+    public IssueImportResult importIssues(Iterator<IssueImportRow> rows) {
+        long started = System.currentTimeMillis();
+        IssueImportResult result = new IssueImportResult(maxErrors);
+        // マッパーの登録は起動処理の中で行われるため、ここで BATCH 実行用のマッパーを取得する
+        IssueRepository batchRepository = batchSqlSession.getMapper(IssueRepository.class);
+        List<IssueImportRow> batch = new ArrayList<>(batchSize);
+        while (rows.hasNext()) {
+            batch.add(rows.next());
+            if (batch.size() == batchSize) {
+                importBatch(batchRepository, batch, result);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            importBatch(batchRepository, batch, result);
+        }
+        logger.info("★ 一括登録完了: 登録={}, エラー={}, {}ms",
+                result.getImported(), result.getErrorCount(), System.currentTimeMillis() - started);
+        return result;
+    }
+
+    /**
+     * 1バッチ分を1トランザクションで登録する
+     */
+    private void importBatch(IssueRepository batchRepository, List<IssueImportRow> batch, IssueImportResult result) {
+        // 入力チェックとバッチ内の重複チェック
+        Map<String, IssueImportRow> valid = new LinkedHashMap<>();
+        for (IssueImportRow row : batch) {
+            String error = validate(row);
+            if (error == null && valid.containsKey(row.getSummary())) {
+                error = "同じ概要の課題が既に存在します";
+            }
+            if (error != null) {
+                result.addError(row, error);
+            } else {
+                valid.put(row.getSummary(), row);
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        List<IssueImportRow> duplicates = new ArrayList<>();
+        try {
+            Map<String, Long> creatorIds = new HashMap<>();
+            valid.values().forEach(row -> creatorIds.computeIfAbsent(row.getCreatorName(), creatorDictionary::idOf));
+            int imported = issueHistoryWriter.withSlots(valid.size(), () -> transactionTemplate.execute(
+                    status -> insertBatch(batchRepository, valid.values(), creatorIds, duplicates)));
+            duplicates.forEach(row -> result.addError(row, "同じ概要の課題が既に存在します"));
+            result.setImported(result.getImported() + imported);
+        } catch (DataAccessException e) {
+            // バッチ全体がロールバックされるため、このバッチの行は全て未登録として報告する
+            logger.warn("一括登録のバッチが失敗しました: 行{}～{}", batch.get(0).getLineNumber(),
+                    batch.get(batch.size() - 1).getLineNumber(), e);
+            valid.values().forEach(row -> result.addError(row, "登録に失敗しました: " + e.getMostSpecificCause().getMessage()));
+        } catch (IssueHistoryBusyException e) {
+            // トランザクションを始める前に断ったため、このバッチの行は全て未登録
+            logger.warn("一括登録のバッチを断りました: 行{}～{}", batch.get(0).getLineNumber(),
+                    batch.get(batch.size() - 1).getLineNumber());
+            valid.values().forEach(row -> result.addError(row, "登録に失敗しました: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 登録済みの概要を除いて issues / issues_creator をまとめて登録する（トランザクション内で実行）
+     *
+     * @param rows       入力チェック済みの行
+     * @param creatorIds 作成者名 → 作成者ID
+     * @param duplicates 登録済みの概要だった行を入れる
+     * @return 登録件数
+     */
+    private int insertBatch(IssueRepository batchRepository, Collection<IssueImportRow> rows,
+                            Map<String, Long> creatorIds, List<IssueImportRow> duplicates) {
+        // 登録済みの概要を1回の問い合わせでまとめて確認する
+        Set<String> existing = new HashSet<>(batchRepository.findExistingSummaries(
+                rows.stream().map(IssueImportRow::getSummary).toList()));
+        List<IssueImportRow> inserted = new ArrayList<>(rows.size());
+        List<IssueEntity> issues = new ArrayList<>(rows.size());
+        for (IssueImportRow row : rows) {
+            if (existing.contains(row.getSummary())) {
+                duplicates.add(row);
+                continue;
+            }
+            IssueEntity issue = new IssueEntity(0, row.getSummary(), row.getDescription(), null, null, false);
+            batchRepository.insert(issue);
+            inserted.add(row);
+            issues.add(issue);
+        }
+        if (issues.isEmpty()) {
+            return 0;
+        }
+        batchSqlSession.flushStatements(); // ここで issues の INSERT をまとめて実行し、採番された ID を受け取る
+
+        for (int i = 0; i < issues.size(); i++) {
+            batchRepository.insertCreator(issues.get(i).getId(), creatorIds.get(inserted.get(i).getCreatorName()));
+        }
+        batchSqlSession.flushStatements();
+
+        for (int i = 0; i < issues.size(); i++) {
+            IssueEntity issue = issues.get(i);
+            eventPublisher.publishEvent(IssueChangedEvent.created(
+                    issue.getId(), issue.getSummary(), issue.getDescription(), inserted.get(i).getCreatorName()));
+        }
+        return issues.size();
+    }
+
+    /**
+     * 1行分の入力チェック（IssueForm のバリデーションと同じ条件）
+     *
+     * @return エラーメッセージ（問題が無い場合は null）
+     */
+    private String validate(IssueImportRow row) {
+        if (row.getError() != null) {
+            return row.getError();
+        }
+        if (row.getSummary() == null || row.getSummary().trim().isEmpty()) {
+            return "概要は必須です";
+        }
+        if (row.getSummary().length() > 256) {
+            return "概要は最大256文字までです";
+        }
+        if (row.getDescription() == null || row.getDescription().trim().isEmpty()) {
+            return "詳細は必須です";
+        }
+        if (row.getDescription().length() > 1000) {
+            return "詳細は最大1000文字までです";
+        }
+        if (row.getCreatorName() == null || row.getCreatorName().trim().isEmpty()) {
+            return "作成者名は必須です";
+        }
+        if (row.getCreatorName().length() > 256) {
+            return "作成者名は最大256文字までです";
+        }
+        return null;
+    }
+}
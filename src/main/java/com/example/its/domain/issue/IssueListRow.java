@@ -0,0 +1,27 @@
+package com.example.its.domain.issue;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 課題一覧の1行分（一覧画面に表示する項目だけを持つ）
+ * - 詳細（description）は読み込まない
+ * - DB からは作成者IDだけを読み、作成者名は IssueService が CreatorDictionary で埋める
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueListRow {
+    private long id;
+    private String summary;
+    private String creatorName;
+    private String updatedAt;
+    @JsonIgnore
+    private Long creatorId; // creators の ID
+
+    public IssueListRow(long id, String summary, String creatorName, String updatedAt) {
+        this(id, summary, creatorName, updatedAt, null);
+    }
+}
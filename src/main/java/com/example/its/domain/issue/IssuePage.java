@@ -0,0 +1,17 @@
+package com.example.its.domain.issue;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 課題一覧の1ページ分の結果
+ * - nextCursor は次ページ取得時に渡す課題ID（次ページが無い場合は null）
+ */
+@AllArgsConstructor
+@Data
+public class IssuePage {
+    private List<IssueListRow> issues;
+    private Long nextCursor;
+}
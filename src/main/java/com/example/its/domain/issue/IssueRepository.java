@@ -2,7 +2,9 @@ package com.example.its.domain.issue;
 
 import com.example.its.web.issue.IssueForm;
 import org.apache.ibatis.annotations.*;
+import org.apache.ibatis.cursor.Cursor;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,19 +28,43 @@ public interface IssueRepository {
     /**
      * 新しい課題を登録する
      *
+     * - 検索用の正規化した概要・詳細（summary_norm / description_norm）も同時に保存する
+     *
      * @param issue 登録する課題エンティティ
      */
-    @Insert("INSERT INTO issues (summary, description, is_deleted) VALUES (#{summary}, #{description}, false)")
+    @Insert("""
+        <script>
+        <bind name="summaryNorm" value="@com.example.its.domain.issue.IssueTextNormalizer@normalize(summary)"/>
+        <bind name="descriptionNorm" value="@com.example.its.domain.issue.IssueTextNormalizer@normalize(description)"/>
+        INSERT INTO issues (summary, description, is_deleted, summary_norm, description_norm)
+        VALUES (#{summary}, #{description}, false, #{summaryNorm}, #{descriptionNorm})
+        </script>
+    """)
     @Options(useGeneratedKeys = true, keyProperty = "id") // 自動生成されたIDを取得
     void insert(IssueEntity issue);
 
+    /**
+     * 指定された概要のうち、既に登録されているものを取得する（一括登録の重複チェック用）
+     * - summary は削除済みの課題も含めて一意のため、削除済みも対象にする
+     *
+     * @param summaries 確認する概要
+     * @return 既に登録されている概要
+     */
+    @Select("""
+        <script>
+        SELECT summary FROM issues
+        WHERE summary IN <foreach item="summary" collection="summaries" open="(" separator="," close=")">#{summary}</foreach>
+        </script>
+    """)
+    List<String> findExistingSummaries(@Param("summaries") Collection<String> summaries);
+
     /**
      * 課題作成者情報を登録する
      * @param issueId 課題ID
-     * @param creatorName 作成者名
+     * @param creatorId 作成者ID（CreatorDictionary で名前から引いたもの）
      */
-    @Insert("INSERT INTO issues_creator (issue_id, creator_name) VALUES (#{issueId}, #{creatorName})")
-    void insertCreator(@Param("issueId") long issueId, @Param("creatorName") String creatorName);
+    @Insert("INSERT INTO issues_creator (issue_id, creator_id) VALUES (#{issueId}, #{creatorId})")
+    void insertCreator(@Param("issueId") long issueId, @Param("creatorId") long creatorId);
 
     /**
      * 課題を ID で検索する
@@ -50,77 +76,339 @@ public interface IssueRepository {
     Optional<IssueEntity> findById(@Param("issueId") long issueId);
 
     /**
-     * 削除されていない課題を全件取得する
+     * 削除されていない課題を ID 順に1ページ分取得する（キーセットページング）
+     * - 前ページ最後の ID より大きいものだけを取得するため、ページが進んでも読み飛ばしが発生しない
+     * - 詳細まで必要な検索インデックスの構築に使う（一覧画面は findActiveIssueRows）
+     *
+     * @param afterId 前ページ最後の課題ID（先頭ページは 0）
+     * @param limit   取得する最大件数
+     * @return 削除されていない課題のリスト（ID 昇順）
+     */
+    @Select("""
+        SELECT * FROM issues
+        WHERE is_deleted = false AND id > #{afterId}
+        ORDER BY id
+        LIMIT #{limit}
+    """)
+    List<IssueEntity> findActiveIssues(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    /**
+     * 削除されていない課題を一覧表示用に ID 順で1ページ分取得する（キーセットページング）
+     * - 一覧に表示する項目（ID・概要・作成者ID・更新日時）だけを取得する（作成者名は CreatorDictionary で引く）
+     *
+     * @param afterId 前ページ最後の課題ID（先頭ページは 0）
+     * @param limit   取得する最大件数
+     * @return 一覧の行のリスト（ID 昇順）
+     */
+    @Select("""
+        SELECT i.id, i.summary, ic.creator_id AS creatorId, i.updated_at AS updatedAt
+        FROM issues i
+        LEFT JOIN issues_creator ic ON i.id = ic.issue_id
+        WHERE i.is_deleted = false AND i.id > #{afterId}
+        ORDER BY i.id
+        LIMIT #{limit}
+    """)
+    List<IssueListRow> findActiveIssueRows(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    /**
+     * 課題のあいまい検索を ID 順に1ページ分実行する（概要・詳細、キーセットページング）
+     * - 詳細は条件にだけ使い、一覧に表示する項目だけを取得する
+     * - 正規化した列（summary_norm / description_norm）を関数をかけずに比較する
+     *
+     * @param keyword 検索キーワード（IssueTextNormalizer で正規化したもの）
+     * @param afterId 前ページ最後の課題ID（先頭ページは 0）
+     * @param limit   取得する最大件数
+     * @return 検索結果のリスト（ID 昇順）
+     */
+    @Select("""
+        SELECT i.id, i.summary, ic.creator_id AS creatorId, i.updated_at AS updatedAt
+        FROM issues i
+        LEFT JOIN issues_creator ic ON i.id = ic.issue_id
+        WHERE i.is_deleted = false AND i.id > #{afterId}
+        AND (i.summary_norm LIKE CONCAT('%', #{keyword}, '%') OR i.description_norm LIKE CONCAT('%', #{keyword}, '%'))
+        ORDER BY i.id
+        LIMIT #{limit}
+    """)
+    List<IssueListRow> searchIssues(@Param("keyword") String keyword,
+                                    @Param("afterId") long afterId,
+                                    @Param("limit") int limit);
+
+    /**
+     * 検索インデックスが絞り込んだ候補の中から、キーワードを含む課題を取得する
+     * - 候補は主キーで引くため全件走査にならない（LIKE は候補の確認だけに使う）
      *
-     * @return 削除されていない課題のリスト
+     * @param keyword 検索キーワード（IssueTextNormalizer で正規化したもの）
+     * @param ids     候補の課題ID
+     * @param limit   取得する最大件数
+     * @return 検索結果のリスト（ID 昇順）
      */
-    @Select("SELECT * FROM issues WHERE is_deleted = false") // is_deleted を boolean 比較に変更
-    List<IssueEntity> findAllActiveIssues();
+    @Select("""
+        <script>
+        SELECT i.id, i.summary, ic.creator_id AS creatorId, i.updated_at AS updatedAt
+        FROM issues i
+        LEFT JOIN issues_creator ic ON i.id = ic.issue_id
+        WHERE i.id IN <foreach item="id" collection="ids" open="(" separator="," close=")">#{id}</foreach>
+        AND i.is_deleted = false
+        AND (i.summary_norm LIKE CONCAT('%', #{keyword}, '%') OR i.description_norm LIKE CONCAT('%', #{keyword}, '%'))
+        ORDER BY i.id
+        LIMIT #{limit}
+        </script>
+    """)
+    List<IssueListRow> searchIssuesByIds(@Param("keyword") String keyword,
+                                         @Param("ids") List<Long> ids,
+                                         @Param("limit") int limit);
 
     /**
-     * 課題のあいまい検索を実行する（概要・詳細）
+     * 検索用の正規化した列がまだ無い課題を ID 順に取得する（起動時の補完用）
+     * - サンプルデータ（V2__insert_sample_issues.sql）など、insert を通らずに登録された課題が対象
      *
-     * @param keyword 検索キーワード
-     * @return 検索結果のリスト
+     * @param afterId この ID より大きい課題だけを対象にする
+     * @param limit   取得する最大件数
+     * @return 課題のリスト（ID 昇順）
      */
-    @Select("SELECT * FROM issues WHERE is_deleted = false AND (summary LIKE CONCAT('%', #{keyword}, '%') OR description LIKE CONCAT('%', #{keyword}, '%'))")
-    List<IssueEntity> searchIssues(@Param("keyword") String keyword);
+    @Select("""
+        SELECT id, summary, description, created_at, updated_at, is_deleted
+        FROM issues
+        WHERE id > #{afterId} AND (summary_norm IS NULL OR description_norm IS NULL)
+        ORDER BY id
+        LIMIT #{limit}
+    """)
+    List<IssueEntity> findIssuesWithoutSearchText(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    /**
+     * 検索用の正規化した概要・詳細を保存する
+     * - 画面上の更新ではないため updated_at は変えない
+     *
+     * @param issue 課題（id・summary・description を使う）
+     * @return 更新された行数
+     */
+    @Update("""
+        <script>
+        <bind name="summaryNorm" value="@com.example.its.domain.issue.IssueTextNormalizer@normalize(summary)"/>
+        <bind name="descriptionNorm" value="@com.example.its.domain.issue.IssueTextNormalizer@normalize(description)"/>
+        UPDATE issues
+        SET summary_norm = #{summaryNorm}, description_norm = #{descriptionNorm}, updated_at = updated_at
+        WHERE id = #{id}
+        </script>
+    """)
+    int updateSearchText(IssueEntity issue);
 
     /**
      * 課題詳細を取得する（JOIN を使用し作成者情報も取得）
+     * - 1件だけなので作成者名も辞書（creators）を JOIN して読む（結果は IssueDetailCache がキャッシュする）
+     * - 削除済みの課題も返す（deleted に論理削除されているかを入れる）
      * @param issueId 課題ID
      * @return 課題の詳細情報（作成者情報を含む）
      */
     @Select("""
-        SELECT i.*, ic.creator_name 
-        FROM issues i 
-        LEFT JOIN issues_creator ic ON i.id = ic.issue_id 
+        SELECT i.*, i.is_deleted AS deleted, c.name AS creatorName
+        FROM issues i
+        LEFT JOIN issues_creator ic ON i.id = ic.issue_id
+        LEFT JOIN creators c ON c.id = ic.creator_id
         WHERE i.id = #{issueId}
     """)
     Optional<IssueForm> findDetailById(@Param("issueId") long issueId);
 
+    /**
+     * 削除されていない課題を作成者名付きで ID 順に1件ずつ読み込む（エクスポート用）
+     * - Cursor で読み進めるため、全件をメモリに載せない
+     * - Cursor を読み終えるまでトランザクション（接続）を開いておく必要がある
+     * - keyword を指定した場合は searchIssues と同じく正規化した列で絞り込む
+     *
+     * @param keyword 検索キーワード（IssueTextNormalizer で正規化したもの、null の場合は全件）
+     * @return 課題と作成者名のカーソル
+     */
+    @Select("""
+        <script>
+        SELECT i.id, i.summary, i.description, ic.creator_id AS creatorId,
+               i.created_at AS createdAt, i.updated_at AS updatedAt
+        FROM issues i
+        LEFT JOIN issues_creator ic ON i.id = ic.issue_id
+        WHERE i.is_deleted = false
+        <if test="keyword != null">
+        AND (i.summary_norm LIKE CONCAT('%', #{keyword}, '%') OR i.description_norm LIKE CONCAT('%', #{keyword}, '%'))
+        </if>
+        ORDER BY i.id
+        </script>
+    """)
+    @Options(fetchSize = 1000)
+    Cursor<IssueExportRow> streamActiveIssuesWithCreator(@Param("keyword") String keyword);
+
 // ----------------------------------------------------------------------------------------------------
     /**
-     * 課題を更新する（同じ概要の課題が存在しないかチェック）
-     * - 変更がある場合のみ更新
+     * 課題を1回の UPDATE で条件付き更新する
+     * - バージョンが一致する場合だけ更新し、バージョンを1つ進める（コンペア・アンド・セット）
+     * - 未削除であること・同じ概要の課題（削除済みを含む）がないこと・内容が変わっていることを WHERE 句で確かめる
+     * - 作成者名だけが変わった場合も更新し、updated_at を進める
+     * - 検索用の正規化した概要・詳細も同時に更新する
+     * - 0件の場合の理由は findUpdateBlocker で調べる
      *
      * @param id 課題ID
      * @param summary 更新する概要
      * @param description 更新する詳細
+     * @param creatorId 更新する作成者ID（変更有無の判定に使う）
+     * @param version 詳細画面を表示した時点のバージョン
      * @return 更新された行数（0なら更新なし）
      */
     @Update("""
-        UPDATE issues 
-        SET summary = #{summary}, description = #{description}, updated_at = NOW() 
-        WHERE id = #{id} 
+        <script>
+        <bind name="summaryNorm" value="@com.example.its.domain.issue.IssueTextNormalizer@normalize(summary)"/>
+        <bind name="descriptionNorm" value="@com.example.its.domain.issue.IssueTextNormalizer@normalize(description)"/>
+        <![CDATA[
+        UPDATE issues
+        SET summary = #{summary}, description = #{description},
+            summary_norm = #{summaryNorm}, description_norm = #{descriptionNorm},
+            updated_at = NOW(), version = version + 1
+        WHERE id = #{id}
+        AND version = #{version}
+        AND is_deleted = false
         AND NOT EXISTS (
-            SELECT 1 FROM issues WHERE summary = #{summary} AND id <> #{id} AND is_deleted = false
+            SELECT 1 FROM issues d WHERE d.summary = #{summary} AND d.id <> #{id}
         )
+        AND (
+            summary <> #{summary}
+            OR description <> #{description}
+            OR NOT EXISTS (
+                SELECT 1 FROM issues_creator ic WHERE ic.issue_id = #{id} AND ic.creator_id = #{creatorId}
+            )
+        )
+        ]]>
+        </script>
     """)
     int updateIssue(@Param("id") long id,
                     @Param("summary") String summary,
-                    @Param("description") String description);
+                    @Param("description") String description,
+                    @Param("creatorId") long creatorId,
+                    @Param("version") long version);
+
     /**
-     * 課題の登録者（creator_name）を更新する
+     * updateIssue が0件だった理由を調べる（存在しない → 削除済み → 競合 → 概要の重複 → 変更なし の順に判定）
+     *
      * @param id 課題ID
-     * @param creatorName 更新する登録者名
+     * @param summary 更新しようとした概要
+     * @param version 更新しようとしたときのバージョン
+     * @return 課題が存在しない場合は空
+     */
+    @Select("""
+        SELECT CASE
+            WHEN i.is_deleted THEN 'DELETED'
+            WHEN i.version <> #{version} THEN 'CONFLICT'
+            WHEN EXISTS (SELECT 1 FROM issues d WHERE d.summary = #{summary} AND d.id <> #{id}) THEN 'DUPLICATE_SUMMARY'
+            ELSE 'UNCHANGED'
+        END
+        FROM issues i
+        WHERE i.id = #{id}
+    """)
+    Optional<IssueUpdateResult> findUpdateBlocker(@Param("id") long id,
+                                                  @Param("summary") String summary,
+                                                  @Param("version") long version);
+    /**
+     * 課題の登録者（creator_id）を更新する
+     * @param id 課題ID
+     * @param creatorId 更新する登録者ID
      * @return 更新された行数（0なら更新なし）
      */
     @Update("""
         UPDATE issues_creator 
-        SET creator_name = #{creatorName} 
+        SET creator_id = #{creatorId} 
         WHERE issue_id = #{id}
     """)
-    int updateCreator(@Param("id") long id, @Param("creatorName") String creatorName);
+    int updateCreator(@Param("id") long id, @Param("creatorId") long creatorId);
 
 // ----------------------------------------------------------------------------------------------------
 
     /**
      * 課題を論理削除する（is_deleted フラグを true に設定）
+     * - updated_at とバージョンも進める（詳細の ETag はバージョンから作るため、削除前の ETag で 304 にならないように）
+     * - deleted_at は最初に削除した日時のまま変えない（アーカイブまでの期間の起点）
      *
      * @param issueId 削除対象の課題ID
      * @return 削除された行数（0なら削除なし）
      */
-    @Update("UPDATE issues SET is_deleted = true WHERE id = #{issueId}")
+    @Update("""
+        UPDATE issues
+        SET is_deleted = true, deleted_at = COALESCE(deleted_at, NOW()), updated_at = NOW(), version = version + 1
+        WHERE id = #{issueId}
+    """)
     int deleteIssue(@Param("issueId") long issueId);
+
+// ----------------------------------------------------------------------------------------------------
+
+    /**
+     * 一括操作の対象の課題を行ロックを取って取得する（結果を判定してから更新するまでに他から変更されないように）
+     *
+     * @param ids 課題ID
+     * @return 存在する課題（削除済みを含む）
+     */
+    @Select("""
+        <script>
+        SELECT * FROM issues
+        WHERE id IN <foreach item="id" collection="ids" open="(" separator="," close=")">#{id}</foreach>
+        FOR UPDATE
+        </script>
+    """)
+    List<IssueEntity> lockIssues(@Param("ids") List<Long> ids);
+
+    /**
+     * 課題の作成者をまとめて取得する
+     *
+     * @param ids 課題ID
+     * @return 作成者情報
+     */
+    @Select("""
+        <script>
+        SELECT issues_creator_id, issue_id, creator_id, touroku_date FROM issues_creator
+        WHERE issue_id IN <foreach item="id" collection="ids" open="(" separator="," close=")">#{id}</foreach>
+        </script>
+    """)
+    List<IssueCreatorEntity> findCreators(@Param("ids") List<Long> ids);
+
+    /**
+     * 課題をまとめて論理削除する（削除済みの課題はそのまま）
+     * - deleteIssue と同じく updated_at とバージョンも進める
+     *
+     * @param ids 課題ID
+     * @return 削除された行数
+     */
+    @Update("""
+        <script>
+        UPDATE issues
+        SET is_deleted = true, deleted_at = COALESCE(deleted_at, NOW()), updated_at = NOW(), version = version + 1
+        WHERE id IN <foreach item="id" collection="ids" open="(" separator="," close=")">#{id}</foreach>
+        AND is_deleted = false
+        </script>
+    """)
+    int deleteActiveIssues(@Param("ids") List<Long> ids);
+
+    /**
+     * 課題の更新日時とバージョンをまとめて進める（作成者を変更した課題の詳細画面の ETag・楽観的排他制御のため）
+     *
+     * @param ids 課題ID
+     * @return 更新された行数
+     */
+    @Update("""
+        <script>
+        UPDATE issues
+        SET updated_at = NOW(), version = version + 1
+        WHERE id IN <foreach item="id" collection="ids" open="(" separator="," close=")">#{id}</foreach>
+        AND is_deleted = false
+        </script>
+    """)
+    int touchIssues(@Param("ids") List<Long> ids);
+
+    /**
+     * 課題の作成者をまとめて変更する
+     *
+     * @param ids       課題ID
+     * @param creatorId 変更後の作成者ID
+     * @return 更新された行数
+     */
+    @Update("""
+        <script>
+        UPDATE issues_creator
+        SET creator_id = #{creatorId}
+        WHERE issue_id IN <foreach item="id" collection="ids" open="(" separator="," close=")">#{id}</foreach>
+        </script>
+    """)
+    int updateCreators(@Param("ids") List<Long> ids, @Param("creatorId") long creatorId);
 }
@@ -0,0 +1,310 @@
+package com.example.its.domain.issue;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 課題の概要・詳細を対象にしたバイグラム（2文字）転置インデックス
+ * - 日本語は単語の区切りが無いため、2文字ずつ区切った語をキーに課題IDを保持する
+ * - キーワードの全バイグラムを含む課題IDを ID 昇順で返す（候補の絞り込み用）
+ * - バイグラムが全て含まれても連続しているとは限らないため、最終的な一致判定は SQL 側で行う
+ * - 概要・詳細・検索キーワードは IssueTextNormalizer で正規化してからバイグラムにする
+ * - 起動時に全件から構築し、以降は IssueChangedEvent（コミット後）で差分を反映する
+ */
+@Component
+@RequiredArgsConstructor
+public class IssueSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(IssueSearchIndex.class);
+    static final int GRAM_LENGTH = 2; // 区切る文字数
+    private static final int REBUILD_CHUNK_SIZE = 1000; // 起動時に1回で読み込む件数
+
+    private final IssueRepository issueRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> postings = new HashMap<>(); // バイグラム → 課題ID（昇順）
+    private final Map<Long, String[]> documentGrams = new HashMap<>(); // 課題ID → 登録済みバイグラム（削除・更新用）
+    private final Set<Long> removedDuringRebuild = new HashSet<>(); // 構築中に削除された課題ID
+    private volatile boolean rebuilding;
+    private volatile boolean ready; // 構築が完了するまでは検索に使わない
+
+    /**
+     * 起動完了時に削除されていない全課題からインデックスを構築する
+     * - 構築中に届いた更新・削除は構築結果より優先する
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        rebuilding = true;
+        try {
+            long afterId = 0;
+            List<IssueEntity> chunk;
+            do {
+                chunk = issueRepository.findActiveIssues(afterId, REBUILD_CHUNK_SIZE);
+                lock.writeLock().lock();
+                try {
+                    for (IssueEntity issue : chunk) {
+                        if (!documentGrams.containsKey(issue.getId()) && !removedDuringRebuild.contains(issue.getId())) {
+                            put(issue.getId(), issue.getSummary(), issue.getDescription());
+                        }
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                if (!chunk.isEmpty()) {
+                    afterId = chunk.get(chunk.size() - 1).getId();
+                }
+            } while (chunk.size() == REBUILD_CHUNK_SIZE);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                removedDuringRebuild.clear();
+                rebuilding = false;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        ready = true;
+        lock.readLock().lock();
+        try {
+            logger.info("検索インデックス構築完了: 課題数={}, バイグラム数={}, {}ms",
+                    documentGrams.size(), postings.size(), System.currentTimeMillis() - started);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 課題の登録・更新・削除をインデックスに反映する（トランザクションのコミット後に実行）
+     *
+     * @param event 課題の変更イベント
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIssueChanged(IssueChangedEvent event) {
+        if (event.getType() == IssueChangedEvent.Type.DELETED) {
+            remove(event.getIssueId());
+        } else {
+            index(event.getIssueId(), event.getSummary(), event.getDescription());
+        }
+    }
+
+    /**
+     * 課題をインデックスに登録する（登録済みの場合は置き換える）
+     *
+     * @param issueId     課題ID
+     * @param summary     課題の概要
+     * @param description 課題の詳細
+     */
+    public void index(long issueId, String summary, String description) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(issueId);
+            put(issueId, summary, description);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 課題をインデックスから削除する
+     *
+     * @param issueId 課題ID
+     */
+    public void remove(long issueId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(issueId);
+            if (rebuilding) {
+                removedDuringRebuild.add(issueId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * インデックスが検索に使える状態か
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * インデックスで検索できるキーワードか（バイグラムが1つ以上作れるか）
+     *
+     * @param keyword 検索キーワード
+     */
+    public boolean supports(String keyword) {
+        return keyword != null && keyword.codePointCount(0, keyword.length()) >= GRAM_LENGTH;
+    }
+
+    /**
+     * キーワードの全バイグラムを含む課題IDを ID 昇順で取得する
+     *
+     * @param keyword 検索キーワード（2文字以上）
+     * @param afterId この ID より大きい課題だけを対象にする
+     * @param limit   取得する最大件数
+     * @return 候補の課題ID（ID 昇順）
+     */
+    public List<Long> findCandidates(String keyword, long afterId, int limit) {
+        Set<String> grams = grams(IssueTextNormalizer.normalize(keyword));
+        List<Long> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            List<PostingList> lists = new ArrayList<>(grams.size());
+            for (String gram : grams) {
+                PostingList list = postings.get(gram);
+                if (list == null) {
+                    return result; // 1つでも含まれないバイグラムがあれば該当なし
+                }
+                lists.add(list);
+            }
+            // 一番件数の少ないリストを走査し、残りは二分探索で確認する
+            lists.sort(Comparator.comparingInt(PostingList::size));
+            PostingList smallest = lists.get(0);
+            for (int i = smallest.indexAfter(afterId); i < smallest.size() && result.size() < limit; i++) {
+                long id = smallest.get(i);
+                boolean all = true;
+                for (int j = 1; j < lists.size() && all; j++) {
+                    all = lists.get(j).contains(id);
+                }
+                if (all) {
+                    result.add(id);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 文字列を重複なしのバイグラムに分割する（サロゲートペアも1文字として扱う）
+     *
+     * @param text 対象文字列（null の場合は空）
+     * @return バイグラムの集合
+     */
+    static Set<String> grams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (text == null) {
+            return grams;
+        }
+        int[] codePoints = text.codePoints().toArray();
+        for (int i = 0; i + GRAM_LENGTH <= codePoints.length; i++) {
+            grams.add(new String(codePoints, i, GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private void put(long issueId, String summary, String description) {
+        Set<String> grams = grams(IssueTextNormalizer.normalize(summary));
+        grams.addAll(grams(IssueTextNormalizer.normalize(description)));
+        String[] keys = new String[grams.size()];
+        int i = 0;
+        for (String gram : grams) {
+            PostingList list = postings.get(gram);
+            if (list == null) {
+                list = new PostingList(gram);
+                postings.put(gram, list);
+            }
+            list.add(issueId);
+            keys[i++] = list.gram; // 同じバイグラムの文字列は1つだけ保持する
+        }
+        documentGrams.put(issueId, keys);
+    }
+
+    private void removeInternal(long issueId) {
+        String[] grams = documentGrams.remove(issueId);
+        if (grams == null) {
+            return;
+        }
+        for (String gram : grams) {
+            PostingList list = postings.get(gram);
+            if (list != null && list.remove(issueId) && list.size() == 0) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * 課題IDを昇順に保持する可変長配列（boxing を避けてメモリを抑える）
+     * - 新規課題は最大IDで追加されるため、ほとんどの追加は末尾への追記になる
+     */
+    static final class PostingList {
+        private final String gram;
+        private long[] ids = new long[4];
+        private int size;
+
+        PostingList(String gram) {
+            this.gram = gram;
+        }
+
+        int size() {
+            return size;
+        }
+
+        long get(int index) {
+            return ids[index];
+        }
+
+        boolean contains(long id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+
+        /** id より大きい最初の要素の位置 */
+        int indexAfter(long id) {
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            return pos >= 0 ? pos + 1 : -pos - 1;
+        }
+
+        void add(long id) {
+            if (size > 0 && ids[size - 1] < id) {
+                ensureCapacity();
+                ids[size++] = id;
+                return;
+            }
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            if (pos >= 0) {
+                return;
+            }
+            int insertAt = -pos - 1;
+            ensureCapacity();
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+        }
+
+        boolean remove(long id) {
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            if (pos < 0) {
+                return false;
+            }
+            System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+            size--;
+            return true;
+        }
+
+        private void ensureCapacity() {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.its.domain.issue;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 検索用の正規化した列（summary_norm / description_norm）が無い課題を補完する
+ * - サンプルデータ（V2__insert_sample_issues.sql）のように IssueRepository#insert を通らずに登録された課題が対象
+ * - 検索で取りこぼさないよう、Web サーバーが起動する前（全 Bean の初期化直後）に実行する
+ */
+@Component
+@RequiredArgsConstructor
+public class IssueSearchTextBackfill implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(IssueSearchTextBackfill.class);
+    private static final int CHUNK_SIZE = 1000; // 1回で読み込む件数
+
+    private final IssueRepository issueRepository;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        backfill();
+    }
+
+    /**
+     * 正規化した列が無い課題をすべて補完する
+     *
+     * @return 補完した課題の件数
+     */
+    public int backfill() {
+        long started = System.currentTimeMillis();
+        int count = 0;
+        long afterId = 0;
+        List<IssueEntity> chunk;
+        do {
+            chunk = issueRepository.findIssuesWithoutSearchText(afterId, CHUNK_SIZE);
+            for (IssueEntity issue : chunk) {
+                count += issueRepository.updateSearchText(issue);
+            }
+            if (!chunk.isEmpty()) {
+                afterId = chunk.get(chunk.size() - 1).getId();
+            }
+        } while (chunk.size() == CHUNK_SIZE);
+        if (count > 0) {
+            logger.info("検索用の正規化列を補完: {}件, {}ms", count, System.currentTimeMillis() - started);
+        }
+        return count;
+    }
+}
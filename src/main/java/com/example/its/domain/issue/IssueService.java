@@ -5,40 +5,128 @@ import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 課題のビジネスロジックを担当するサービスクラス
  * - 課題の検索、登録、更新、削除を管理
+ * - 作成者は creators の ID で保存し、名前との変換は CreatorDictionary で行う
+ *   - 作成者名を受け取る操作は、トランザクションを始める前に作成者IDを引く
+ *     （辞書への登録は別の接続でコミットするため、接続を持ったまま2本目を待たない）
  */
 @Service
 @RequiredArgsConstructor
 public class IssueService {
 
     private static final Logger logger = LoggerFactory.getLogger(IssueService.class); // ログメッセージを出力できる。logger～のやつ
+    public static final int DEFAULT_PAGE_SIZE = 20; // 一覧1ページの既定件数
+    public static final int MAX_PAGE_SIZE = 100; // 一覧1ページの最大件数
+    private static final int CANDIDATE_CHUNK_SIZE = 100; // 検索インデックスの候補を1回で確認する件数
+    public static final int HISTORY_LIMIT = 50; // 課題詳細に表示する変更履歴の最大件数
+    public static final int MAX_BULK_SIZE = 1000; // 一括操作で1回に指定できる課題の最大件数
+    static final int BULK_CHUNK_SIZE = 200; // 一括操作の IN 句1回に含める課題の件数
     private final IssueRepository issueRepository; // 課題データを扱うリポジトリ
+    private final IssueSearchIndex issueSearchIndex; // キーワード検索用の転置インデックス
+    private final IssueDetailCache issueDetailCache; // 課題詳細のキャッシュ
+    private final IssueHistoryRepository issueHistoryRepository; // 課題の変更履歴
+    private final CreatorDictionary creatorDictionary; // 作成者の ID と名前の変換
+    private final ApplicationEventPublisher eventPublisher; // 課題の変更を通知する
+    private final PlatformTransactionManager transactionManager; // 作成者IDを引いた後に始めるトランザクション
+    private final IssueHistoryWriter issueHistoryWriter; // 変更履歴の枠をトランザクションの前に確保する
 
     /**
-     * 課題の一覧を取得する（検索機能付き）
+     * 課題の一覧を1ページ分取得する（検索機能付き・キーセットページング）
      *
-     * @param keyword 検索キーワード（null または空文字の場合は全件取得）
-     * @return 検索結果または全課題のリスト
+     * @param keyword  検索キーワード（null または空文字の場合は全件が対象）
+     * @param cursor   前ページの nextCursor（null の場合は先頭ページ）
+     * @param pageSize 1ページの件数（null の場合は既定値）
+     * @return 検索結果または全課題の1ページ分
      */
-    public List<IssueEntity> findIssues(String keyword) {
+    public IssuePage findIssues(String keyword, Long cursor, Integer pageSize) {
         // バリデーションを追加（controllerの@Validatedと一緒の確認を入れてる）
         if (keyword != null && keyword.length() > 256) {
             throw new IllegalArgumentException("検索キーワードが長すぎます");
         }
+        if (cursor != null && cursor < 0) {
+            throw new IllegalArgumentException("cursor は正の数値である必要があります");
+        }
+        if (pageSize != null && (pageSize < 1 || pageSize > MAX_PAGE_SIZE)) {
+            throw new IllegalArgumentException("pageSize は1以上" + MAX_PAGE_SIZE + "以下である必要があります");
+        }
+
+        long afterId = cursor == null ? 0 : cursor;
+        int size = pageSize == null ? DEFAULT_PAGE_SIZE : pageSize;
 
+        // 次ページの有無を判定するため1件多く取得する
+        List<IssueListRow> issues;
         if (keyword == null || keyword.trim().isEmpty()) {
-            return issueRepository.findAllActiveIssues(); // 削除されていない全課題を取得
+            issues = issueRepository.findActiveIssueRows(afterId, size + 1); // 削除されていない課題を取得
+        } else {
+            // 保存済みの summary_norm / description_norm と同じ正規化をかけて比較する（全角・大小・カナの違いを無視）
+            String normalizedKeyword = IssueTextNormalizer.normalize(keyword);
+            if (issueSearchIndex.isReady() && issueSearchIndex.supports(normalizedKeyword)) {
+                issues = searchByIndex(normalizedKeyword, afterId, size + 1);
+            } else {
+                issues = issueRepository.searchIssues(normalizedKeyword, afterId, size + 1); // 構築前・1文字の場合は全件走査
+            }
+        }
+
+        fillCreatorNames(issues);
+        if (issues.size() <= size) {
+            return new IssuePage(issues, null);
+        }
+        List<IssueListRow> page = issues.subList(0, size);
+        return new IssuePage(page, page.get(size - 1).getId());
+    }
+
+    /**
+     * 検索インデックスで候補を絞り込み、候補だけを DB で確認して検索する
+     *
+     * @param keyword 検索キーワード（正規化したもの）
+     * @param afterId この ID より大きい課題だけを対象にする
+     * @param limit   取得する最大件数
+     * @return 検索結果のリスト（ID 昇順）
+     */
+    private List<IssueListRow> searchByIndex(String keyword, long afterId, int limit) {
+        List<IssueListRow> issues = new ArrayList<>();
+        long candidateAfterId = afterId;
+        while (issues.size() < limit) {
+            List<Long> candidates = issueSearchIndex.findCandidates(keyword, candidateAfterId, CANDIDATE_CHUNK_SIZE);
+            if (candidates.isEmpty()) {
+                break;
+            }
+            issues.addAll(issueRepository.searchIssuesByIds(keyword, candidates, limit - issues.size()));
+            if (candidates.size() < CANDIDATE_CHUNK_SIZE) {
+                break;
+            }
+            candidateAfterId = candidates.get(candidates.size() - 1);
         }
-        return issueRepository.searchIssues(keyword);
+        return issues;
+    }
+
+    /**
+     * 一覧の行に作成者名を埋める（キャッシュに無い作成者だけまとめて DB から読む）
+     */
+    private void fillCreatorNames(List<IssueListRow> issues) {
+        List<IssueListRow> rows = issues.stream().filter(row -> row.getCreatorId() != null).toList();
+        if (rows.isEmpty()) {
+            return;
+        }
+        Map<Long, String> names = creatorDictionary.namesOf(rows.stream().map(IssueListRow::getCreatorId).toList());
+        rows.forEach(row -> row.setCreatorName(names.get(row.getCreatorId())));
     }
 
 // ---------------------------------------------------------------
@@ -48,21 +136,27 @@ public class IssueService {
      * @param summary     課題の概要
      * @param description 課題の詳細
      * @param creatorName 作成者名
+     * @return 作成した課題のID
      * @throws IllegalArgumentException 同じ概要の課題が既に存在する場合
+     * @throws IssueHistoryBusyException 変更履歴の書き込みが追いついていない場合（作成しない）
      */
-    @Transactional
-    public void createIssueWithCreator(String summary, String description, String creatorName) {
+    public long createIssueWithCreator(String summary, String description, String creatorName) {
         if (summary == null || summary.trim().isEmpty()) {
             throw new IllegalArgumentException("summary は必須です");
         }
         if (description == null || description.trim().isEmpty()) {
             throw new IllegalArgumentException("description は必須です");
         }
-        if (issueRepository.findBySummary(summary).isPresent()) {
-            throw new IllegalArgumentException("同じ概要の課題が既に存在します");
-        }
-        IssueEntity issue = createIssue(summary, description);
-        issueRepository.insertCreator(issue.getId(), creatorName);
+        long creatorId = creatorDictionary.idOf(creatorName); // 未登録の名前は辞書に登録する
+        return inTransaction(1, status -> {
+            if (issueRepository.findBySummary(summary).isPresent()) {
+                throw new IllegalArgumentException("同じ概要の課題が既に存在します");
+            }
+            IssueEntity issue = createIssue(summary, description);
+            issueRepository.insertCreator(issue.getId(), creatorId);
+            eventPublisher.publishEvent(IssueChangedEvent.created(issue.getId(), summary, description, creatorName));
+            return issue.getId();
+        });
     }
 
     /**
@@ -92,17 +186,33 @@ public class IssueService {
         if (issueId == null || issueId < 0) {
             throw new IllegalArgumentException("issueId は正の数値である必要があります");
         }
-        return issueRepository.findDetailById(issueId); // 課題詳細を取得
+        return issueDetailCache.get(issueId, issueRepository::findDetailById); // キャッシュに無い場合だけ DB から取得
+    }
+
+    /**
+     * 課題の変更履歴を新しい順に取得する（最大 HISTORY_LIMIT 件）
+     * - 履歴は IssueHistoryWriter が非同期に書き込むため、直前の変更がまだ含まれない場合がある
+     *
+     * @param issueId 課題の ID
+     * @return 変更履歴のリスト（新しい順）
+     * @throws IllegalArgumentException issueId が null または負の数の場合
+     */
+    public List<IssueHistoryEntity> findHistory(Long issueId) {
+        if (issueId == null || issueId < 0) {
+            throw new IllegalArgumentException("issueId は正の数値である必要があります");
+        }
+        return issueHistoryRepository.findByIssueId(issueId, HISTORY_LIMIT);
     }
 
     /**
      * 課題を更新する（変更がない場合は更新しない）
+     * - 成功時の SQL は課題の条件付き UPDATE と作成者の UPDATE の2回
      *
      * @param form 更新対象の課題情報
-     * @return 更新成功時は true、変更がなかった場合は false
+     * @return 更新結果（更新しなかった場合はその理由）
+     * @throws IssueHistoryBusyException 変更履歴の書き込みが追いついていない場合（更新しない）
      */
-    @Transactional
-    public boolean updateIssue(IssueForm form) {
+    public IssueUpdateResult updateIssue(IssueForm form) {
         // issueId のバリデーション
         if (form.getId() == null) {
             throw new IllegalArgumentException("issueId は NULL であってはなりません");
@@ -116,27 +226,32 @@ public class IssueService {
         if (form.getDescription() == null || form.getDescription().trim().isEmpty()) {
             throw new IllegalArgumentException("description は必須です");
         }
-
-        // 同じ summary の課題が既に存在するかチェック
-        Optional<IssueEntity> duplicateSummary = issueRepository.findBySummary(form.getSummary());
-        if (duplicateSummary.isPresent() && duplicateSummary.get().getId() != form.getId()) {
-            throw new IllegalArgumentException("同じ概要の課題が既に存在します");
+        if (form.getVersion() == null) {
+            throw new IllegalArgumentException("version は NULL であってはなりません");
         }
 
-        // 指定された issueId の課題が存在するかチェック
-        Optional<IssueEntity> existingIssue = issueRepository.findById(form.getId());
-        if (existingIssue.isEmpty()) {
-            throw new RuntimeException("指定された課題が存在しません");
-        }
-        if (existingIssue.get().is_deleted()) {
-            throw new RuntimeException("指定された課題は削除されています");
-        }
+        long creatorId = creatorDictionary.idOf(form.getCreatorName()); // 未登録の名前は辞書に登録する
+        return inTransaction(1, status -> {
+            // 存在・削除状態・他のユーザーによる更新（バージョン）・概要の重複・変更有無を1回の UPDATE の条件で確かめる
+            int updatedRows;
+            try {
+                updatedRows = issueRepository.updateIssue(
+                        form.getId(), form.getSummary(), form.getDescription(), creatorId, form.getVersion());
+            } catch (DuplicateKeyException e) {
+                // 同時に同じ概要へ更新された場合は一意制約で検出する
+                return IssueUpdateResult.DUPLICATE_SUMMARY;
+            }
+            if (updatedRows == 0) {
+                // 更新できなかった場合のみ理由を調べる
+                return issueRepository.findUpdateBlocker(form.getId(), form.getSummary(), form.getVersion())
+                        .orElse(IssueUpdateResult.NOT_FOUND);
+            }
+            issueRepository.updateCreator(form.getId(), creatorId);
 
-        // 課題の更新処理
-        int updatedRows = issueRepository.updateIssue(form.getId(), form.getSummary(), form.getDescription());
-        int updatedCreatorRows = issueRepository.updateCreator(form.getId(), form.getCreatorName());
-
-        return updatedRows > 0 || updatedCreatorRows > 0;
+            eventPublisher.publishEvent(IssueChangedEvent.updated(
+                    form.getId(), form.getSummary(), form.getDescription(), form.getCreatorName()));
+            return IssueUpdateResult.UPDATED;
+        });
     }
 
 
@@ -147,8 +262,8 @@ public class IssueService {
      *
      * @param issueId 削除対象の課題 ID
      * @return 削除成功時は true、対象が存在しなかった場合は false
+     * @throws IssueHistoryBusyException 変更履歴の書き込みが追いついていない場合（削除しない）
      */
-    @Transactional
     public boolean deleteIssue(Long issueId) {
         // issueId が NULL の場合はエラーをスロー
         if (issueId == null) {
@@ -158,8 +273,150 @@ public class IssueService {
             throw new IllegalArgumentException("issueId は正の数値である必要があります");
         }
 
-        return issueRepository.deleteIssue(issueId) > 0;
+        return inTransaction(1, status -> {
+            boolean deleted = issueRepository.deleteIssue(issueId) > 0;
+            if (deleted) {
+                eventPublisher.publishEvent(IssueChangedEvent.deleted(issueId));
+            }
+            return deleted;
+        });
     }
 
+    /**
+     * 複数の課題をまとめて論理削除する
+     * - 1つのトランザクションで、BULK_CHUNK_SIZE 件ずつ行ロック付きの SELECT と UPDATE ... WHERE id IN (...) を実行する
+     *
+     * @param issueIds 削除対象の課題ID（重複は1件にまとめる）
+     * @return 課題IDごとの結果（SUCCEEDED / DELETED / NOT_FOUND）
+     * @throws IllegalArgumentException issueIds が空・MAX_BULK_SIZE 件超・null や負の数を含む場合
+     * @throws IssueHistoryBusyException 変更履歴の書き込みが追いついていない場合（削除しない）
+     */
+    public IssueBulkResult deleteIssues(List<Long> issueIds) {
+        List<Long> ids = validateBulkIds(issueIds);
+        IssueBulkResult result = inTransaction(ids.size(), status -> deleteActiveIssues(ids));
+        logger.info("★ 一括削除完了: 指定={}件, 削除={}件", ids.size(), result.getSucceeded());
+        return result;
+    }
 
+    /**
+     * 課題をまとめて論理削除する（トランザクション内で実行）
+     */
+    private IssueBulkResult deleteActiveIssues(List<Long> ids) {
+        IssueBulkResult result = new IssueBulkResult();
+        for (List<Long> chunk : chunks(ids)) {
+            Map<Long, IssueEntity> issues = lockIssues(chunk);
+            List<Long> targets = chunk.stream()
+                    .filter(id -> issues.containsKey(id) && !issues.get(id).is_deleted())
+                    .toList();
+            if (!targets.isEmpty()) {
+                issueRepository.deleteActiveIssues(targets);
+            }
+            for (Long id : chunk) {
+                result.add(id, outcome(issues.get(id), targets.contains(id)));
+            }
+            targets.forEach(id -> eventPublisher.publishEvent(IssueChangedEvent.deleted(id)));
+        }
+        return result;
+    }
+
+    /**
+     * 複数の課題の作成者をまとめて変更する
+     * - 1つのトランザクションで、BULK_CHUNK_SIZE 件ずつ行ロック付きの SELECT と UPDATE ... WHERE id IN (...) を実行する
+     * - 変更した課題は updated_at とバージョンも進める（詳細画面を開いたままの他のユーザーの更新は CONFLICT になる）
+     *
+     * @param issueIds    変更対象の課題ID（重複は1件にまとめる）
+     * @param creatorName 変更後の作成者名（前後の空白は除く）
+     * @return 課題IDごとの結果（SUCCEEDED / UNCHANGED / DELETED / NOT_FOUND）
+     * @throws IllegalArgumentException issueIds が不正な場合・creatorName が空の場合
+     * @throws IssueHistoryBusyException 変更履歴の書き込みが追いついていない場合（変更しない）
+     */
+    public IssueBulkResult reassignCreator(List<Long> issueIds, String creatorName) {
+        List<Long> ids = validateBulkIds(issueIds);
+        if (creatorName == null || creatorName.trim().isEmpty()) {
+            throw new IllegalArgumentException("creatorName は必須です");
+        }
+        String name = creatorName.trim(); // 画面・API のどちらから呼ばれても同じ名前で登録する
+        long creatorId = creatorDictionary.idOf(name); // 未登録の名前は辞書に登録する
+        IssueBulkResult result = inTransaction(ids.size(), status -> reassignCreator(ids, creatorId, name));
+        logger.info("★ 作成者の一括変更完了: 指定={}件, 変更={}件", ids.size(), result.getSucceeded());
+        return result;
+    }
+
+    /**
+     * 作成者をまとめて変更する（トランザクション内で実行）
+     */
+    private IssueBulkResult reassignCreator(List<Long> ids, long creatorId, String creatorName) {
+        IssueBulkResult result = new IssueBulkResult();
+        for (List<Long> chunk : chunks(ids)) {
+            Map<Long, IssueEntity> issues = lockIssues(chunk);
+            List<Long> active = chunk.stream()
+                    .filter(id -> issues.containsKey(id) && !issues.get(id).is_deleted())
+                    .toList();
+            Map<Long, Long> creators = active.isEmpty() ? Map.of() : issueRepository.findCreators(active).stream()
+                    .collect(Collectors.toMap(IssueCreatorEntity::getIssue_id, IssueCreatorEntity::getCreator_id));
+            List<Long> targets = active.stream()
+                    .filter(id -> !Long.valueOf(creatorId).equals(creators.get(id)))
+                    .toList();
+            if (!targets.isEmpty()) {
+                issueRepository.touchIssues(targets);
+                issueRepository.updateCreators(targets, creatorId);
+            }
+            for (Long id : chunk) {
+                result.add(id, outcome(issues.get(id), targets.contains(id)));
+            }
+            for (Long id : targets) {
+                IssueEntity issue = issues.get(id);
+                eventPublisher.publishEvent(IssueChangedEvent.updated(id, issue.getSummary(), issue.getDescription(), creatorName));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 作成者IDを引いた後の処理を1つのトランザクションで実行する
+     * - 接続を取る前に、コミットしうる変更 changes 件分の変更履歴の枠を確保する（空かなければ IssueHistoryBusyException）
+     */
+    private <T> T inTransaction(int changes, TransactionCallback<T> action) {
+        return issueHistoryWriter.withSlots(changes, () -> new TransactionTemplate(transactionManager).execute(action));
+    }
+
+    /**
+     * 一括操作の課題IDを確かめ、指定された順のまま重複を除く
+     */
+    private static List<Long> validateBulkIds(List<Long> issueIds) {
+        if (issueIds == null || issueIds.isEmpty()) {
+            throw new IllegalArgumentException("issueIds は1件以上指定してください");
+        }
+        if (issueIds.stream().anyMatch(id -> id == null || id < 0)) {
+            throw new IllegalArgumentException("issueId は正の数値である必要があります");
+        }
+        List<Long> ids = List.copyOf(new LinkedHashSet<>(issueIds));
+        if (ids.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("一度に指定できる課題は " + MAX_BULK_SIZE + " 件までです");
+        }
+        return ids;
+    }
+
+    private static List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += BULK_CHUNK_SIZE) {
+            chunks.add(ids.subList(from, Math.min(from + BULK_CHUNK_SIZE, ids.size())));
+        }
+        return chunks;
+    }
+
+    private Map<Long, IssueEntity> lockIssues(List<Long> ids) {
+        return issueRepository.lockIssues(ids).stream()
+                .collect(Collectors.toMap(IssueEntity::getId, Function.identity()));
+    }
+
+    private static IssueBulkOutcome outcome(IssueEntity issue, boolean targeted) {
+        if (issue == null) {
+            return IssueBulkOutcome.NOT_FOUND;
+        }
+        if (targeted) {
+            return IssueBulkOutcome.SUCCEEDED;
+        }
+        return issue.is_deleted() ? IssueBulkOutcome.DELETED : IssueBulkOutcome.UNCHANGED;
+    }
 }
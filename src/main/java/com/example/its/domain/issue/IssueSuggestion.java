@@ -0,0 +1,14 @@
+package com.example.its.domain.issue;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 概要の入力候補（GET /issues/suggestions の1件分）
+ */
+@AllArgsConstructor
+@Data
+public class IssueSuggestion {
+    private long id;
+    private String summary;
+}
@@ -0,0 +1,149 @@
+package com.example.its.domain.issue;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 削除されていない課題の概要を前方一致で引く入力候補インデックス
+ * - 正規化した概要（IssueTextNormalizer）の昇順に並べた ConcurrentSkipListMap で保持し、DB には問い合わせない
+ * - 読み取りはロックなし、登録・更新・削除は synchronized で直列化する
+ * - 起動時に全件から構築し、以降は IssueChangedEvent（コミット後）で差分を反映する
+ */
+@Component
+@RequiredArgsConstructor
+public class IssueSummarySuggester {
+
+    private static final Logger logger = LoggerFactory.getLogger(IssueSummarySuggester.class);
+    private static final int REBUILD_CHUNK_SIZE = 1000; // 起動時に1回で読み込む件数
+    private static final char KEY_SEPARATOR = '\u0000'; // 正規化した概要と ID の区切り（どの文字よりも前に並ぶ）
+
+    private final IssueRepository issueRepository;
+
+    private final ConcurrentSkipListMap<String, IssueSuggestion> entries = new ConcurrentSkipListMap<>(); // 正規化した概要 + ID → 候補
+    private final Map<Long, String> keys = new HashMap<>(); // 課題ID → entries のキー（更新・削除用、synchronized で保護）
+    private final Set<Long> removedDuringRebuild = new HashSet<>(); // 構築中に削除された課題ID
+    private boolean rebuilding;
+
+    /**
+     * 起動完了時に削除されていない全課題から構築する
+     * - 構築中に届いた更新・削除は構築結果より優先する
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        synchronized (this) {
+            rebuilding = true;
+        }
+        try {
+            long afterId = 0;
+            List<IssueEntity> chunk;
+            do {
+                chunk = issueRepository.findActiveIssues(afterId, REBUILD_CHUNK_SIZE);
+                synchronized (this) {
+                    for (IssueEntity issue : chunk) {
+                        if (!keys.containsKey(issue.getId()) && !removedDuringRebuild.contains(issue.getId())) {
+                            put(issue.getId(), issue.getSummary());
+                        }
+                    }
+                }
+                if (!chunk.isEmpty()) {
+                    afterId = chunk.get(chunk.size() - 1).getId();
+                }
+            } while (chunk.size() == REBUILD_CHUNK_SIZE);
+        } finally {
+            synchronized (this) {
+                removedDuringRebuild.clear();
+                rebuilding = false;
+            }
+        }
+        logger.info("入力候補インデックス構築完了: 課題数={}, {}ms", entries.size(), System.currentTimeMillis() - started);
+    }
+
+    /**
+     * 課題の登録・更新・削除を反映する（トランザクションのコミット後に実行）
+     *
+     * @param event 課題の変更イベント
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIssueChanged(IssueChangedEvent event) {
+        if (event.getType() == IssueChangedEvent.Type.DELETED) {
+            remove(event.getIssueId());
+        } else {
+            index(event.getIssueId(), event.getSummary());
+        }
+    }
+
+    /**
+     * 課題の概要を登録する（登録済みの場合は置き換える）
+     *
+     * @param issueId 課題ID
+     * @param summary 課題の概要
+     */
+    public synchronized void index(long issueId, String summary) {
+        removeInternal(issueId);
+        put(issueId, summary);
+    }
+
+    /**
+     * 課題を候補から外す
+     *
+     * @param issueId 課題ID
+     */
+    public synchronized void remove(long issueId) {
+        removeInternal(issueId);
+        if (rebuilding) {
+            removedDuringRebuild.add(issueId);
+        }
+    }
+
+    /**
+     * 入力された文字列で始まる概要を、正規化した概要の昇順に取得する
+     * - 全角・大小・カタカナとひらがなの違いは無視する
+     *
+     * @param prefix 入力中の文字列（空の場合は候補なし）
+     * @param limit  取得する最大件数
+     * @return 入力候補
+     */
+    public List<IssueSuggestion> suggest(String prefix, int limit) {
+        List<IssueSuggestion> result = new ArrayList<>();
+        String normalized = IssueTextNormalizer.normalize(prefix);
+        if (normalized == null || normalized.isEmpty()) {
+            return result;
+        }
+        NavigableMap<String, IssueSuggestion> tail = entries.tailMap(normalized, true);
+        for (Map.Entry<String, IssueSuggestion> entry : tail.entrySet()) {
+            if (result.size() >= limit || !entry.getKey().startsWith(normalized)) {
+                break;
+            }
+            result.add(entry.getValue());
+        }
+        return result;
+    }
+
+    private void put(long issueId, String summary) {
+        String key = IssueTextNormalizer.normalize(summary) + KEY_SEPARATOR + issueId;
+        entries.put(key, new IssueSuggestion(issueId, summary));
+        keys.put(issueId, key);
+    }
+
+    private void removeInternal(long issueId) {
+        String key = keys.remove(issueId);
+        if (key != null) {
+            entries.remove(key);
+        }
+    }
+}
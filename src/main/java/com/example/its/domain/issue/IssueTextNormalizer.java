@@ -0,0 +1,45 @@
+package com.example.its.domain.issue;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 検索用に課題の文字列を正規化する
+ * - NFKC で全角英数・半角カナなどの表記ゆれをそろえる（「ＡＰＩ」→「API」、「ｱ」→「ア」）
+ * - 英字を小文字にそろえる（「API」→「api」）
+ * - カタカナをひらがなにそろえる（「バグ」→「ばぐ」）
+ * - 保存時（summary_norm / description_norm）と検索時のキーワードの両方に同じ正規化をかける
+ */
+public final class IssueTextNormalizer {
+
+    private static final char KATAKANA_FIRST = 'ァ'; // U+30A1
+    private static final char KATAKANA_LAST = 'ヶ'; // U+30F6（対応するひらがながある範囲の最後）
+    private static final int KATAKANA_TO_HIRAGANA = 'ァ' - 'ぁ';
+
+    private IssueTextNormalizer() {
+    }
+
+    /**
+     * 文字列を検索用に正規化する
+     *
+     * @param text 対象の文字列（null の場合は null を返す）
+     * @return 正規化した文字列
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return null;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = null;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c >= KATAKANA_FIRST && c <= KATAKANA_LAST) {
+                if (sb == null) {
+                    sb = new StringBuilder(normalized);
+                }
+                sb.setCharAt(i, (char) (c - KATAKANA_TO_HIRAGANA));
+            }
+        }
+        return sb == null ? normalized : sb.toString();
+    }
+}
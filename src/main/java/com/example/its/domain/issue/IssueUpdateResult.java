@@ -0,0 +1,20 @@
+package com.example.its.domain.issue;
+
+/**
+ * 課題更新（IssueService#updateIssue）の結果
+ * - UPDATED 以外は更新されなかった理由を表す
+ */
+public enum IssueUpdateResult {
+    /** 更新した */
+    UPDATED,
+    /** 指定された課題が存在しない */
+    NOT_FOUND,
+    /** 指定された課題は削除されている */
+    DELETED,
+    /** 表示した後に他のユーザーが更新した（バージョンが一致しない） */
+    CONFLICT,
+    /** 同じ概要の課題が既に存在する */
+    DUPLICATE_SUMMARY,
+    /** 概要・詳細・作成者のいずれも変わっていない */
+    UNCHANGED
+}
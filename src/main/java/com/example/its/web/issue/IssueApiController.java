@@ -0,0 +1,217 @@
+package com.example.its.web.issue;
+
+import com.example.its.domain.issue.IssueBulkResult;
+import com.example.its.domain.issue.IssueChangeVersion;
+import com.example.its.domain.issue.IssueExportRow;
+import com.example.its.domain.issue.IssueExportService;
+import com.example.its.domain.issue.IssueHistoryBusyException;
+import com.example.its.domain.issue.IssuePage;
+import com.example.its.domain.issue.IssueService;
+import com.example.its.domain.issue.IssueUpdateResult;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindException;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.net.URI;
+
+/**
+ * 課題の REST API（画面の HTML を解析せずに扱うためのもの）
+ * - 一覧・検索・詳細・登録・更新・削除・一括削除・作成者の一括変更を IssueService 経由で行う
+ * - 一覧と詳細は画面と同じ ETag を返し、条件付き GET（If-None-Match）には 304 を返す
+ * - 全件取得（/api/issues/stream）は DB から読んだ行をそのまま JSON 配列として書き出す（全件をメモリに載せない）
+ * - エラーは RFC 9457 の Problem Details（application/problem+json）で返す
+ *
+ * 例: curl 'http://localhost:8080/api/issues?keyword=バグ&size=50'
+ *     curl -X POST -H 'Content-Type: application/json' \
+ *          -d '{"summary":"バグA","description":"バグがあります","creatorName":"田中"}' http://localhost:8080/api/issues
+ */
+@RestController
+@RequestMapping("/api/issues")
+@RequiredArgsConstructor
+public class IssueApiController {
+
+    private static final int BUFFER_SIZE = 8192; // 全件取得の書き出しバッファ（バイト数）
+
+    private final IssueService issueService;
+    private final IssueExportService issueExportService;
+    private final IssueChangeVersion issueChangeVersion;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 課題の一覧を1ページ分返す（keyword を指定すると検索）
+     *
+     * @param form キーワード・カーソル（前ページの nextCursor）・表示件数
+     * @return {"issues":[{id, summary, creatorName, updatedAt}...], "nextCursor": 次ページのカーソル（無い場合は null）}
+     */
+    @GetMapping
+    public ResponseEntity<IssuePage> list(@Validated SearchForm form) {
+        String etag = issueChangeVersion.etag(); // 検索より前に読み、304 で古い内容を返さないようにする
+        IssuePage page = issueService.findIssues(form.getKeyword(), form.getCursor(), form.getSize());
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(etag)
+                .body(page);
+    }
+
+    /**
+     * 削除されていない全課題を ID 順の JSON 配列で返す
+     *
+     * @return [{id, summary, creatorName, updatedAt}...]（エクスポートの同時実行の上限に達している場合は 503）
+     */
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> stream() {
+        if (!issueExportService.tryStartExport()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, IssueExportController.RETRY_AFTER_SECONDS)
+                    .build();
+        }
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory()
+                    .createGenerator(new BufferedOutputStream(outputStream, BUFFER_SIZE))) {
+                generator.writeStartArray();
+                issueExportService.exportActiveIssues(row -> writeRow(generator, row));
+                generator.writeEndArray();
+            } finally {
+                issueExportService.finishExport();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    /**
+     * 課題の詳細を返す
+     *
+     * @param issueId 課題ID
+     * @return 課題の詳細（存在しない・削除済みの場合は 404）
+     */
+    @GetMapping("/{issueId}")
+    public ResponseEntity<IssueDetailResponse> detail(@PathVariable("issueId") long issueId) {
+        return issueService.findDetailById(issueId)
+                .filter(form -> !form.isDeleted()) // 削除済みの課題は存在しないものとして扱う
+                .map(form -> ResponseEntity.ok()
+                        .cacheControl(CacheControl.noCache())
+                        .eTag(issueChangeVersion.etag(issueId, form.getVersion()))
+                        .body(IssueDetailResponse.from(form)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 課題を登録する
+     *
+     * @param form 概要・詳細・作成者名
+     * @return 201 と登録した課題の詳細（Location に課題の URL）
+     */
+    @PostMapping
+    public ResponseEntity<IssueDetailResponse> create(@Validated @RequestBody IssueForm form) {
+        long issueId = issueService.createIssueWithCreator(form.getSummary(), form.getDescription(), form.getCreatorName());
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest().path("/{issueId}").buildAndExpand(issueId).toUri();
+        return issueService.findDetailById(issueId)
+                .map(detail -> ResponseEntity.created(location).body(IssueDetailResponse.from(detail)))
+                .orElseGet(() -> ResponseEntity.created(location).build());
+    }
+
+    /**
+     * 課題を更新する
+     * - version には詳細を取得した時点の値を指定する（他の更新と競合した場合は 409）
+     *
+     * @param issueId 課題ID
+     * @param form    概要・詳細・作成者名・バージョン
+     * @return 更新後（内容が変わらない場合は現在）の課題の詳細
+     */
+    @PutMapping("/{issueId}")
+    public ResponseEntity<?> update(@PathVariable("issueId") long issueId, @Validated @RequestBody IssueForm form) {
+        form.setId(issueId);
+        IssueUpdateResult result = issueService.updateIssue(form);
+        return switch (result) {
+            case UPDATED, UNCHANGED -> detail(issueId);
+            case NOT_FOUND -> problem(HttpStatus.NOT_FOUND, "更新対象の課題が見つかりません");
+            case DELETED -> problem(HttpStatus.NOT_FOUND, "更新対象の課題は削除されています");
+            case CONFLICT -> problem(HttpStatus.CONFLICT, "他のユーザーが先にこの課題を更新しました");
+            case DUPLICATE_SUMMARY -> problem(HttpStatus.CONFLICT, "同じ概要の課題が既に存在します");
+        };
+    }
+
+    /**
+     * 課題を論理削除する
+     *
+     * @param issueId 課題ID
+     * @return 204（削除済みの課題を再度指定した場合も 204、存在しない場合は 404）
+     */
+    @DeleteMapping("/{issueId}")
+    public ResponseEntity<Void> delete(@PathVariable("issueId") long issueId) {
+        return issueService.deleteIssue(issueId)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * 複数の課題をまとめて論理削除する（1トランザクション）
+     *
+     * @param request 課題ID
+     * @return {"items":[{id, outcome}...], "succeeded": 削除した件数}（outcome は SUCCEEDED / DELETED / NOT_FOUND）
+     */
+    @PostMapping("/bulk-delete")
+    public IssueBulkResult bulkDelete(@Validated @RequestBody IssueBulkRequest request) {
+        return issueService.deleteIssues(request.getIds());
+    }
+
+    /**
+     * 複数の課題の作成者をまとめて変更する（1トランザクション）
+     *
+     * @param request 課題ID・変更後の作成者名
+     * @return {"items":[{id, outcome}...], "succeeded": 変更した件数}（outcome は SUCCEEDED / UNCHANGED / DELETED / NOT_FOUND）
+     */
+    @PostMapping("/bulk-reassign")
+    public IssueBulkResult bulkReassign(@Validated @RequestBody IssueBulkRequest request) {
+        return issueService.reassignCreator(request.getIds(), request.getCreatorName());
+    }
+
+    /**
+     * 入力値のエラー（バリデーション・IssueService の検証）は 400
+     */
+    @ExceptionHandler(BindException.class)
+    public ResponseEntity<ProblemDetail> handleInvalid(BindException e) {
+        return problem(HttpStatus.BAD_REQUEST, e.getBindingResult().getAllErrors().get(0).getDefaultMessage());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ProblemDetail> handleIllegalArgument(IllegalArgumentException e) {
+        return problem(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
+    /**
+     * 変更履歴の書き込みが混み合って変更しなかった場合は 503（Retry-After: 1）
+     */
+    @ExceptionHandler(IssueHistoryBusyException.class)
+    public ResponseEntity<ProblemDetail> handleHistoryBusy(IssueHistoryBusyException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage()));
+    }
+
+    private static ResponseEntity<ProblemDetail> problem(HttpStatus status, String detail) {
+        return ResponseEntity.status(status).body(ProblemDetail.forStatusAndDetail(status, detail));
+    }
+
+    private static void writeRow(JsonGenerator generator, IssueExportRow row) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", row.getId());
+        generator.writeStringField("summary", row.getSummary());
+        generator.writeStringField("creatorName", row.getCreatorName());
+        generator.writeStringField("updatedAt", row.getUpdatedAt());
+        generator.writeEndObject();
+    }
+}
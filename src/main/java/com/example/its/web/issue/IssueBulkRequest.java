@@ -0,0 +1,25 @@
+package com.example.its.web.issue;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 一括操作 API（POST /api/issues/bulk-delete, /api/issues/bulk-reassign）のリクエスト
+ * - creatorName は登録者の変更の場合だけ使う
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueBulkRequest {
+
+    @NotEmpty(message = "課題IDを1件以上指定してください")
+    private List<Long> ids; // 対象の課題ID
+
+    @Size(max = 256, message = "作成者名は最大256文字までです")
+    private String creatorName; // 変更後の作成者名
+}
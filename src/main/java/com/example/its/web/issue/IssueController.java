@@ -1,20 +1,31 @@
 package com.example.its.web.issue;
 
+import com.example.its.domain.issue.IssueBulkOutcome;
+import com.example.its.domain.issue.IssueBulkResult;
+import com.example.its.domain.issue.IssueChangeVersion;
+import com.example.its.domain.issue.IssueHistoryBusyException;
+import com.example.its.domain.issue.IssuePage;
 import com.example.its.domain.issue.IssueService;
+import com.example.its.domain.issue.IssueUpdateResult;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * 課題管理のコントローラークラス
  * - 課題の一覧表示、詳細表示
  * - 課題の作成、更新、削除
+ * - 変更履歴の書き込みが混み合って変更を断られた場合（IssueHistoryBusyException）はメッセージを表示する
  */
 @Controller
 @RequestMapping("/issues")
@@ -22,24 +33,35 @@ import java.util.List;
 public class IssueController {
 
     private final IssueService issueService; // 課題のビジネスロジックを処理するサービス
+    private final IssueChangeVersion issueChangeVersion; // 条件付き GET に使う課題の変更バージョン
 
     /**
-     * 課題一覧の表示（検索機能付き）
+     * 課題一覧の表示（検索機能付き・キーセットページング）
      * @param model ビューにデータを渡す
      * @return 課題一覧画面
      */
     @GetMapping
-    public String showList(@Validated @ModelAttribute SearchForm form, BindingResult bindingResult, Model model) {
+    public String showList(@Validated @ModelAttribute SearchForm form, BindingResult bindingResult, Model model,
+                           WebRequest webRequest, HttpServletResponse response) {
         // バリデーションエラーがある場合
         if (bindingResult.hasErrors()) {
-            model.addAttribute("errorMessage", "検索キーワードが長すぎます");
+            model.addAttribute("errorMessage", bindingResult.getAllErrors().get(0).getDefaultMessage());
             model.addAttribute("issueList", List.of()); // エラー時は空リストを設定
             return "issues/list";
         }
 
+        // どの課題も変わっていなければ検索・描画せずに 304 を返す（フラッシュのメッセージがある場合は描画する）
+        if (!model.containsAttribute("errorMessage") && !model.containsAttribute("message")
+                && checkNotModified(webRequest, response, issueChangeVersion.etag())) {
+            return null;
+        }
+
         // 検索処理を実行
-        model.addAttribute("issueList", issueService.findIssues(form.getKeyword()));
+        IssuePage page = issueService.findIssues(form.getKeyword(), form.getCursor(), form.getSize());
+        model.addAttribute("issueList", page.getIssues());
+        model.addAttribute("nextCursor", page.getNextCursor()); // 次ページが無い場合は null
         model.addAttribute("keyword", form.getKeyword());
+        model.addAttribute("size", form.getSize());
         return "issues/list";
     }
 
@@ -68,7 +90,7 @@ public class IssueController {
         }
         try {
             issueService.createIssueWithCreator(form.getSummary(), form.getDescription(), form.getCreatorName());
-        } catch (IllegalArgumentException e) {
+        } catch (IllegalArgumentException | IssueHistoryBusyException e) {
             model.addAttribute("errorMessage", e.getMessage()); // エラーメッセージを表示
             return showCreationForm(form);
         }
@@ -82,13 +104,44 @@ public class IssueController {
      * @return 課題詳細画面
      */
     @GetMapping("/{issueId}")
-    public String showDetail(@PathVariable("issueId") long issueId, Model model) {
+    public String showDetail(@PathVariable("issueId") long issueId, Model model,
+                             WebRequest webRequest, HttpServletResponse response) {
         IssueForm issueForm = issueService.findDetailById(issueId)
                 .orElseThrow(); // 課題が存在しない場合はエラーをスロー
+        // 課題と変更履歴のバージョンが変わっていなければ、履歴を読まず描画もせずに 304 を返す
+        // （課題詳細はキャッシュから読むため、304 の場合は DB に問い合わせない）
+        String etag = issueChangeVersion.etagWithHistory(issueId, issueForm.getVersion());
+        if (checkNotModified(webRequest, response, etag)) {
+            return null;
+        }
         model.addAttribute("issueForm", issueForm); // 課題情報をビューに渡す
+        model.addAttribute("histories", issueService.findHistory(issueId)); // 変更履歴をビューに渡す
         return "issues/detail";
     }
 
+    /**
+     * 更新失敗時などに課題詳細画面を再表示する（条件付き GET の対象外）
+     */
+    private String showDetail(long issueId, Model model) {
+        IssueForm issueForm = issueService.findDetailById(issueId)
+                .orElseThrow(); // 課題が存在しない場合はエラーをスロー
+        model.addAttribute("issueForm", issueForm); // 課題情報をビューに渡す
+        model.addAttribute("histories", issueService.findHistory(issueId)); // 変更履歴をビューに渡す
+        return "issues/detail";
+    }
+
+    /**
+     * If-None-Match を確認し、変わっていなければ 304 の応答にする
+     * - ブラウザが毎回再検証するよう Cache-Control: no-cache を付ける
+     * - Last-Modified は秒単位で同じ秒の変更を区別できないため使わない（ETag だけで判定する）
+     *
+     * @return 304 を返す場合は true（呼び出し側はビューを描画しない）
+     */
+    private boolean checkNotModified(WebRequest webRequest, HttpServletResponse response, String etag) {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        return webRequest.checkNotModified(etag);
+    }
+
     /**
      * 課題の更新処理
      * @param issueId 更新対象の課題ID
@@ -98,7 +151,7 @@ public class IssueController {
      */
     @PostMapping("/{issueId}/update")
     public String updateIssue(@PathVariable("issueId") long issueId, @Validated @ModelAttribute IssueForm form,
-                              BindingResult bindingResult, Model model) {
+                              BindingResult bindingResult, Model model, RedirectAttributes redirectAttributes) {
         form.setId(issueId); // IDをセット（更新対象の課題を指定）
 
         // バリデーションエラーがある場合は詳細画面に戻る
@@ -106,11 +159,33 @@ public class IssueController {
             return showDetail(issueId, model);
         }
 
-        if (!issueService.updateIssue(form)) {
-            model.addAttribute("errorMessage", "同じ概要の課題が既に存在するか、内容が変わっていません");
-            return showDetail(issueId, model); // 更新失敗時は詳細画面を再表示
+        IssueUpdateResult result;
+        try {
+            result = issueService.updateIssue(form);
+        } catch (IssueHistoryBusyException e) {
+            model.addAttribute("errorMessage", e.getMessage());
+            return showDetail(issueId, model);
+        }
+        switch (result) {
+            case UPDATED:
+                return "redirect:/issues/" + issueId; // 更新成功時は詳細ページへリダイレクト
+            case NOT_FOUND:
+            case DELETED:
+                // 詳細画面を表示できないため一覧画面へ戻る
+                redirectAttributes.addFlashAttribute("errorMessage", result == IssueUpdateResult.NOT_FOUND
+                        ? "更新対象の課題が見つかりません" : "更新対象の課題は削除されています");
+                return "redirect:/issues";
+            case CONFLICT:
+                // 最新の内容を表示し直し、もう一度編集してもらう
+                model.addAttribute("errorMessage", "他のユーザーが先にこの課題を更新しました。最新の内容を確認してから更新してください");
+                return showDetail(issueId, model);
+            case DUPLICATE_SUMMARY:
+                model.addAttribute("errorMessage", "同じ概要の課題が既に存在します");
+                return showDetail(issueId, model); // 更新失敗時は詳細画面を再表示
+            default:
+                model.addAttribute("errorMessage", "内容が変わっていません");
+                return showDetail(issueId, model);
         }
-        return "redirect:/issues/" + issueId; // 更新成功時は詳細ページへリダイレクト
     }
 
     /**
@@ -120,12 +195,91 @@ public class IssueController {
      */
     @PostMapping("/{issueId}/delete")
     public String deleteIssue(@PathVariable("issueId") long issueId, RedirectAttributes redirectAttributes) {
-        if (!issueService.deleteIssue(issueId)) { // 削除に失敗した場合
-            redirectAttributes.addFlashAttribute("errorMessage", "削除対象の課題が見つかりません");
+        try {
+            if (!issueService.deleteIssue(issueId)) { // 削除に失敗した場合
+                redirectAttributes.addFlashAttribute("errorMessage", "削除対象の課題が見つかりません");
+            }
+        } catch (IssueHistoryBusyException e) {
+            redirectAttributes.addFlashAttribute("errorMessage", e.getMessage());
         }
         return "redirect:/issues"; // 削除成功時でもエラー時でも一覧画面へリダイレクト
     }
 
+    /**
+     * 一覧画面で選択した課題の一括削除（論理削除）
+     * @param ids 選択した課題ID
+     * @param keyword 一覧画面の検索キーワード（戻り先の一覧で使う）
+     * @return 一覧画面へリダイレクト（件数をメッセージで表示）
+     */
+    @PostMapping("/bulk-delete")
+    public String deleteIssues(@RequestParam(name = "ids", required = false) List<Long> ids,
+                               @RequestParam(name = "keyword", required = false) String keyword,
+                               RedirectAttributes redirectAttributes) {
+        if (ids == null || ids.isEmpty()) {
+            redirectAttributes.addFlashAttribute("errorMessage", "課題が選択されていません");
+        } else {
+            try {
+                redirectAttributes.addFlashAttribute("message", bulkMessage("削除", issueService.deleteIssues(ids)));
+            } catch (IllegalArgumentException | IssueHistoryBusyException e) {
+                // 件数の上限超過・不正な課題ID（IssueService の検証）と、変更履歴の混雑はメッセージで知らせる
+                redirectAttributes.addFlashAttribute("errorMessage", e.getMessage());
+            }
+        }
+        return redirectToList(keyword, redirectAttributes);
+    }
+
+    /**
+     * 一覧画面で選択した課題の登録者を一括で変更する
+     * @param ids 選択した課題ID
+     * @param creatorName 変更後の登録者名
+     * @param keyword 一覧画面の検索キーワード（戻り先の一覧で使う）
+     * @return 一覧画面へリダイレクト（件数をメッセージで表示）
+     */
+    @PostMapping("/bulk-reassign")
+    public String reassignCreator(@RequestParam(name = "ids", required = false) List<Long> ids,
+                                  @RequestParam(name = "creatorName", required = false) String creatorName,
+                                  @RequestParam(name = "keyword", required = false) String keyword,
+                                  RedirectAttributes redirectAttributes) {
+        if (ids == null || ids.isEmpty()) {
+            redirectAttributes.addFlashAttribute("errorMessage", "課題が選択されていません");
+        } else if (creatorName == null || creatorName.isBlank() || creatorName.length() > 256) {
+            redirectAttributes.addFlashAttribute("errorMessage", "変更後の登録者名を256文字以内で入力してください");
+        } else {
+            try {
+                redirectAttributes.addFlashAttribute("message",
+                        bulkMessage("登録者を変更", issueService.reassignCreator(ids, creatorName)));
+            } catch (IllegalArgumentException | IssueHistoryBusyException e) {
+                redirectAttributes.addFlashAttribute("errorMessage", e.getMessage());
+            }
+        }
+        return redirectToList(keyword, redirectAttributes);
+    }
 
+    /**
+     * 一括操作の結果を「削除しました: 3件（削除済み: 1件）」の形にする
+     */
+    private static String bulkMessage(String operation, IssueBulkResult result) {
+        StringBuilder message = new StringBuilder(operation + "しました: " + result.getSucceeded() + "件");
+        List<String> skipped = new ArrayList<>();
+        if (result.count(IssueBulkOutcome.UNCHANGED) > 0) {
+            skipped.add("変更なし: " + result.count(IssueBulkOutcome.UNCHANGED) + "件");
+        }
+        if (result.count(IssueBulkOutcome.DELETED) > 0) {
+            skipped.add("削除済み: " + result.count(IssueBulkOutcome.DELETED) + "件");
+        }
+        if (result.count(IssueBulkOutcome.NOT_FOUND) > 0) {
+            skipped.add("見つからない: " + result.count(IssueBulkOutcome.NOT_FOUND) + "件");
+        }
+        if (!skipped.isEmpty()) {
+            message.append("（").append(String.join(" / ", skipped)).append("）");
+        }
+        return message.toString();
+    }
 
+    private static String redirectToList(String keyword, RedirectAttributes redirectAttributes) {
+        if (keyword != null && !keyword.isBlank()) {
+            redirectAttributes.addAttribute("keyword", keyword);
+        }
+        return "redirect:/issues";
+    }
 }
@@ -0,0 +1,25 @@
+package com.example.its.web.issue;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 課題詳細の JSON（GET /api/issues/{issueId} などの応答）
+ * - 更新時は version をそのまま送り返す
+ */
+@AllArgsConstructor
+@Data
+public class IssueDetailResponse {
+    private long id;
+    private String summary;
+    private String description;
+    private String creatorName;
+    private String createdAt;
+    private String updatedAt;
+    private long version;
+
+    static IssueDetailResponse from(IssueForm form) {
+        return new IssueDetailResponse(form.getId(), form.getSummary(), form.getDescription(), form.getCreatorName(),
+                form.getCreated_at(), form.getUpdated_at(), form.getVersion() == null ? 0 : form.getVersion());
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.its.web.issue;
+
+import com.example.its.domain.issue.IssueChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 課題の変更を接続中のクライアントへ Server-Sent Events で配信する
+ * - IssueService の登録・更新・削除をコミット後に受け取り、全クライアントのキューへ積む
+ * - 送信はクライアントごとに仮想スレッドで行うため、遅いクライアントが他のクライアントや更新のリクエストを待たせない
+ * - 接続数は its.issue.events.max-connections まで（超えた接続は拒否する）
+ * - クライアントごとのキューは its.issue.events.client-buffer 件まで
+ *   （溢れたクライアントは切断する。ブラウザーは再接続時に一覧を読み込み直す）
+ * - 切断に気付けるよう its.issue.events.heartbeat-interval ごとにコメント行を送る
+ * - 接続数は /actuator/metrics の its.issue.events.connections で確認できる
+ */
+@Component
+public class IssueEventBroadcaster implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(IssueEventBroadcaster.class);
+    static final String EVENT_NAME = "issue";
+
+    private final Set<Client> clients = ConcurrentHashMap.newKeySet();
+    private final ExecutorService sender = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("issue-events-", 0).factory());
+    private final int maxConnections;
+    private final int clientBuffer;
+    private final Duration timeout;
+    private volatile boolean running;
+
+    public IssueEventBroadcaster(@Value("${its.issue.events.max-connections:100}") int maxConnections,
+                                 @Value("${its.issue.events.client-buffer:32}") int clientBuffer,
+                                 @Value("${its.issue.events.timeout:0}") Duration timeout,
+                                 MeterRegistry meterRegistry) {
+        if (maxConnections <= 0 || clientBuffer <= 0) {
+            throw new IllegalArgumentException("max-connections と client-buffer は正の数値である必要があります");
+        }
+        this.maxConnections = maxConnections;
+        this.clientBuffer = clientBuffer;
+        this.timeout = timeout;
+        Gauge.builder("its.issue.events.connections", clients, Set::size)
+                .description("課題の変更通知（SSE）の接続数")
+                .register(meterRegistry);
+    }
+
+    /**
+     * クライアントを登録する
+     *
+     * @return 応答に使う SseEmitter（接続数が上限に達している・停止中の場合は empty）
+     */
+    public synchronized Optional<SseEmitter> connect() {
+        if (!running || clients.size() >= maxConnections) {
+            return Optional.empty();
+        }
+        SseEmitter emitter = new SseEmitter(timeout.toMillis()); // 0 の場合はタイムアウトしない
+        Client client = new Client(emitter, new ArrayBlockingQueue<>(clientBuffer));
+        emitter.onCompletion(() -> clients.remove(client));
+        emitter.onTimeout(() -> clients.remove(client));
+        emitter.onError(e -> clients.remove(client));
+        clients.add(client);
+        return Optional.of(emitter);
+    }
+
+    /**
+     * 課題の変更を全クライアントへ送る（トランザクションのコミット後に実行）
+     *
+     * @param event 課題の変更イベント
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIssueChanged(IssueChangedEvent event) {
+        String updatedAt = event.getType() == IssueChangedEvent.Type.DELETED
+                ? null : Timestamp.valueOf(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS)).toString();
+        IssueEventMessage message = new IssueEventMessage(event.getType(), event.getIssueId(),
+                event.getSummary(), event.getCreatorName(), updatedAt);
+        broadcast(SseEmitter.event().name(EVENT_NAME).data(message, MediaType.APPLICATION_JSON).build());
+    }
+
+    /**
+     * 切断したクライアントを検出するため、コメント行だけを送る
+     */
+    @Scheduled(fixedDelayString = "${its.issue.events.heartbeat-interval:20s}")
+    public void heartbeat() {
+        if (!clients.isEmpty()) {
+            broadcast(SseEmitter.event().comment("").build());
+        }
+    }
+
+    /**
+     * 接続中のクライアント数
+     */
+    public int connections() {
+        return clients.size();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    /**
+     * 全クライアントを切断する（Web サーバーの正常終了が SSE の応答の完了を待ち続けないよう、先に止める）
+     */
+    @Override
+    public synchronized void stop() {
+        running = false;
+        clients.forEach(this::disconnect);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 送信内容を各クライアントのキューへ積む（溢れたクライアントは切断する）
+     */
+    private void broadcast(Set<ResponseBodyEmitter.DataWithMediaType> data) {
+        for (Client client : clients) {
+            if (!client.queue().offer(data)) {
+                logger.info("★ 変更通知のキューが溢れたためクライアントを切断します: 接続数={}", clients.size());
+                disconnect(client);
+                continue;
+            }
+            if (client.sending().compareAndSet(false, true)) {
+                sender.execute(() -> drain(client));
+            }
+        }
+    }
+
+    /**
+     * クライアントのキューが空になるまで送る（1クライアントにつき同時に1スレッドだけが送る）
+     */
+    private void drain(Client client) {
+        try {
+            Set<ResponseBodyEmitter.DataWithMediaType> data;
+            while ((data = client.queue().poll()) != null) {
+                client.emitter().send(data);
+            }
+        } catch (IOException | IllegalStateException e) {
+            clients.remove(client); // 切断済み（emitter は Spring MVC が完了させる）
+        } finally {
+            client.sending().set(false);
+        }
+        if (!client.queue().isEmpty() && clients.contains(client) && client.sending().compareAndSet(false, true)) {
+            sender.execute(() -> drain(client)); // 送信を終えた直後に積まれた分
+        }
+    }
+
+    private void disconnect(Client client) {
+        clients.remove(client);
+        client.queue().clear();
+        client.emitter().complete();
+    }
+
+    /**
+     * 接続中のクライアント
+     *
+     * @param queue   送信待ちのデータ（イベントの内容は全クライアントで共有する）
+     * @param sending 送信中のスレッドがあるか
+     */
+    private record Client(SseEmitter emitter, BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> queue,
+                          AtomicBoolean sending) {
+
+        Client(SseEmitter emitter, BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> queue) {
+            this(emitter, queue, new AtomicBoolean());
+        }
+    }
+}
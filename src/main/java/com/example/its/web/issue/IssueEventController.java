@@ -0,0 +1,43 @@
+package com.example.its.web.issue;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 課題の変更通知 API（Server-Sent Events）
+ * - 一覧画面が1本の接続を開いたままにし、登録・更新・削除を受け取って行を書き換える（再読み込みしない）
+ * - 接続数が上限に達している場合は 503 を返す（ブラウザーは再接続しない）
+ *
+ * 例: curl -N http://localhost:8080/issues/events
+ */
+@RestController
+@RequestMapping("/issues/events")
+@RequiredArgsConstructor
+public class IssueEventController {
+
+    static final String RETRY_AFTER_SECONDS = "30";
+
+    private final IssueEventBroadcaster issueEventBroadcaster;
+
+    /**
+     * 変更通知の配信を始める
+     *
+     * @return text/event-stream の応答（上限を超えた場合は 503）
+     */
+    @GetMapping
+    public ResponseEntity<SseEmitter> subscribe() {
+        return issueEventBroadcaster.connect()
+                .map(emitter -> ResponseEntity.ok()
+                        .header("X-Accel-Buffering", "no") // リバースプロキシにバッファーさせない
+                        .body(emitter))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                        .build());
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.its.web.issue;
+
+import com.example.its.domain.issue.IssueChangedEvent;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 課題の変更通知（GET /issues/events で送る issue イベントのデータ）
+ * - DELETED の場合、summary / creatorName / updatedAt は null
+ * - updatedAt は通知した時刻（DB の updated_at とはわずかにずれる場合がある）
+ */
+@AllArgsConstructor
+@Data
+public class IssueEventMessage {
+    private IssueChangedEvent.Type type;
+    private long id;
+    private String summary;
+    private String creatorName;
+    private String updatedAt;
+}
@@ -0,0 +1,135 @@
+package com.example.its.web.issue;
+
+import com.example.its.domain.issue.IssueExportRow;
+import com.example.its.domain.issue.IssueExportService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 課題のエクスポート API
+ * - 削除されていない全課題を作成者名付きで CSV または JSON Lines で返す
+ * - DB から読んだ行を固定サイズのバッファ経由でそのままレスポンスに書き出すため、件数が増えてもメモリ使用量は一定
+ *
+ * - keyword を指定すると一覧の検索と同じ条件で絞り込む
+ * - 同時に実行中のエクスポートが its.issue.export.max-concurrent 件に達している場合は 503 を返す
+ *
+ * 例: curl -o issues.csv 'http://localhost:8080/issues/export?format=csv'
+ *     curl -o bugs.ndjson 'http://localhost:8080/issues/export?format=ndjson&keyword=バグ'
+ */
+@RestController
+@RequestMapping("/issues/export")
+@RequiredArgsConstructor
+public class IssueExportController {
+
+    static final String RETRY_AFTER_SECONDS = "10";
+    private static final int BUFFER_SIZE = 8192; // 書き出しバッファ（文字数）
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+    private static final MediaType APPLICATION_NDJSON = new MediaType("application", "x-ndjson", StandardCharsets.UTF_8);
+
+    private final IssueExportService issueExportService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 課題をエクスポートする
+     *
+     * @param format  csv（既定）または ndjson
+     * @param keyword 検索キーワード（省略時は全件）
+     * @return 書き出し処理（レスポンス送信時に実行される。同時実行の上限に達している場合は 503）
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(name = "format", defaultValue = "csv") String format,
+                                                        @RequestParam(name = "keyword", required = false) String keyword) {
+        if (!format.equals("csv") && !format.equals("ndjson")) {
+            return ResponseEntity.badRequest().build(); // format は csv または ndjson のみ
+        }
+        if (keyword != null && keyword.length() > IssueExportService.MAX_KEYWORD_LENGTH) {
+            return ResponseEntity.badRequest().build(); // 書き出しを始めてからでは 400 を返せないため先に確かめる
+        }
+        if (!issueExportService.tryStartExport()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                    .build();
+        }
+        boolean csv = format.equals("csv");
+        StreamingResponseBody body = outputStream -> {
+            try {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+                if (csv) {
+                    writer.write("id,summary,description,creatorName,createdAt,updatedAt\n");
+                    issueExportService.exportActiveIssues(keyword, row -> writeCsv(writer, row));
+                } else {
+                    JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+                    generator.setRootValueSeparator(null); // 行の区切りは writeJsonLine で改行を書く
+                    issueExportService.exportActiveIssues(keyword, row -> writeJsonLine(generator, row));
+                    generator.flush();
+                }
+                writer.flush();
+            } finally {
+                issueExportService.finishExport();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(csv ? TEXT_CSV : APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"issues." + format + "\"")
+                .body(body);
+    }
+
+    private static void writeCsv(Writer writer, IssueExportRow row) throws IOException {
+        writer.write(Long.toString(row.getId()));
+        writer.write(',');
+        writeCsvField(writer, row.getSummary());
+        writer.write(',');
+        writeCsvField(writer, row.getDescription());
+        writer.write(',');
+        writeCsvField(writer, row.getCreatorName());
+        writer.write(',');
+        writeCsvField(writer, row.getCreatedAt());
+        writer.write(',');
+        writeCsvField(writer, row.getUpdatedAt());
+        writer.write('\n');
+    }
+
+    /**
+     * カンマ・ダブルクォート・改行を含む値はダブルクォートで囲む（null は空欄）
+     */
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static void writeJsonLine(JsonGenerator generator, IssueExportRow row) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", row.getId());
+        generator.writeStringField("summary", row.getSummary());
+        generator.writeStringField("description", row.getDescription());
+        generator.writeStringField("creatorName", row.getCreatorName());
+        generator.writeStringField("createdAt", row.getCreatedAt());
+        generator.writeStringField("updatedAt", row.getUpdatedAt());
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+}
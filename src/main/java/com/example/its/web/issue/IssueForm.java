@@ -34,6 +34,10 @@ public class IssueForm {
     private String created_at; // 作成日時
     private String updated_at; // 更新日時
 
+    private Long version; // 楽観的排他制御のバージョン（詳細画面で表示した時点の値を送り返す）
+
+    private boolean deleted; // 論理削除されているか（詳細の取得時だけ設定する。更新では使わない）
+
 // MEMO 以下バリデーションはserviceに直書きした。 @Validatedを使用しcontrollerにだけ記載してしまうと別ルートからの処理があった場合すり抜けてしまう
 //    @Size(max = 256, message = "検索キーワードは最大256文字までです")
 //    private String keyword; // 検索キーワード
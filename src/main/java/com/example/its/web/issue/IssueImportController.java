@@ -0,0 +1,62 @@
+package com.example.its.web.issue;
+
+import com.example.its.domain.issue.IssueImportResult;
+import com.example.its.domain.issue.IssueImportRow;
+import com.example.its.domain.issue.IssueImportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+/**
+ * 課題の一括登録 API
+ * - CSV（text/csv）または JSON Lines（application/x-ndjson）をリクエストボディで受け取る
+ * - 結果は登録件数と、登録できなかった行の行番号・理由を JSON で返す
+ *
+ * 例: curl -X POST -H 'Content-Type: text/csv' --data-binary @issues.csv http://localhost:8080/issues/import
+ */
+@RestController
+@RequestMapping("/issues/import")
+@RequiredArgsConstructor
+public class IssueImportController {
+
+    private final IssueImportService issueImportService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * CSV で一括登録する（列: summary,description,creatorName）
+     */
+    @PostMapping(consumes = "text/csv")
+    public IssueImportResult importCsv(HttpServletRequest request) throws IOException {
+        try (BufferedReader reader = reader(request)) {
+            return issueImportService.importIssues(IssueImportParser.csv(reader));
+        }
+    }
+
+    /**
+     * JSON Lines で一括登録する（1行に1課題）
+     */
+    @PostMapping(consumes = {"application/x-ndjson", "application/jsonl"})
+    public IssueImportResult importJsonLines(HttpServletRequest request) throws IOException {
+        try (BufferedReader reader = reader(request)) {
+            Iterator<IssueImportRow> rows = IssueImportParser.jsonLines(reader, objectMapper);
+            return issueImportService.importIssues(rows);
+        }
+    }
+
+    private BufferedReader reader(HttpServletRequest request) throws IOException {
+        // charset の指定が無い場合は UTF-8 として読む
+        String encoding = request.getCharacterEncoding();
+        return new BufferedReader(new InputStreamReader(request.getInputStream(),
+                encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding)));
+    }
+}
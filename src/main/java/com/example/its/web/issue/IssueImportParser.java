@@ -0,0 +1,249 @@
+package com.example.its.web.issue;
+
+import com.example.its.domain.issue.IssueImportRow;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * 一括登録の入力（CSV / JSON Lines）を1行ずつ読み込むパーサー
+ * - 全体をメモリに載せず、呼び出し側が読み進めた分だけ読み込む
+ * - 形式が不正な行は例外にせず、エラー付きの行として返す
+ * - 1行・1つの値の長さに上限を設け、改行やダブルクォートが閉じられない入力でも読み込む量を抑える
+ */
+final class IssueImportParser {
+
+    private static final List<String> CSV_HEADER = List.of("summary", "description", "creatorname");
+    static final int MAX_FIELD_LENGTH = 1000; // 1つの値の上限（入力フォームの詳細の上限と同じ）
+    static final int MAX_LINE_LENGTH = 16 * 1024; // 1行の上限（3列が上限の長さで、エスケープを含んでも収まる長さ）
+
+    private IssueImportParser() {
+    }
+
+    /**
+     * CSV（summary,description,creatorName）を読み込む
+     * - 先頭行がヘッダーの場合は読み飛ばす
+     * - ダブルクォートで囲んだ値の中ではカンマ・改行を使える（"" でダブルクォート自体を表す）
+     */
+    static Iterator<IssueImportRow> csv(BufferedReader bufferedReader) {
+        LineReader reader = new LineReader(bufferedReader);
+        return new RowIterator() {
+            private long lineNumber; // 読み込み済みの物理行数
+            private boolean first = true;
+
+            @Override
+            IssueImportRow read() throws IOException {
+                while (true) {
+                    String line = reader.readLine();
+                    if (line == null) {
+                        return null;
+                    }
+                    lineNumber++;
+                    long recordLine = lineNumber;
+                    if (line.isEmpty()) {
+                        continue;
+                    }
+                    List<String> fields = new ArrayList<>(3);
+                    String error = reader.isTooLong() ? tooLongLine() : parseRecord(line, fields);
+                    if (first) {
+                        first = false;
+                        if (fields.stream().map(String::toLowerCase).toList().equals(CSV_HEADER)) {
+                            continue;
+                        }
+                    }
+                    if (error != null) {
+                        return IssueImportRow.invalid(recordLine, error);
+                    }
+                    if (fields.size() != 3) {
+                        return IssueImportRow.invalid(recordLine, "列の数が不正です（summary,description,creatorName の3列）");
+                    }
+                    return new IssueImportRow(recordLine, fields.get(0), fields.get(1), fields.get(2), null);
+                }
+            }
+
+            /**
+             * 1レコード分を fields に読み込む（クォート内の改行があれば次の行も読む）
+             * - 値が MAX_FIELD_LENGTH 文字を超えた場合はそのレコードをエラーにし、次の行から読み直す
+             *   （ダブルクォートが閉じられていない場合に、残りの入力をすべて1つの値として読み込まないように）
+             *
+             * @return エラーメッセージ（問題が無い場合は null）
+             */
+            private String parseRecord(String line, List<String> fields) throws IOException {
+                StringBuilder field = new StringBuilder();
+                boolean quoted = false;
+                int i = 0;
+                while (true) {
+                    if (field.length() > MAX_FIELD_LENGTH) {
+                        return "値が長すぎます（" + MAX_FIELD_LENGTH + "文字まで。ダブルクォートが閉じられていない可能性があります）";
+                    }
+                    if (i == line.length()) {
+                        if (!quoted) {
+                            fields.add(field.toString());
+                            return null;
+                        }
+                        line = reader.readLine(); // クォート内の改行
+                        if (line == null) {
+                            return "ダブルクォートが閉じられていません";
+                        }
+                        lineNumber++;
+                        if (reader.isTooLong()) {
+                            return tooLongLine();
+                        }
+                        field.append('\n');
+                        i = 0;
+                        continue;
+                    }
+                    char c = line.charAt(i++);
+                    if (quoted) {
+                        if (c == '"' && i < line.length() && line.charAt(i) == '"') {
+                            field.append('"');
+                            i++;
+                        } else if (c == '"') {
+                            quoted = false;
+                        } else {
+                            field.append(c);
+                        }
+                    } else if (c == '"' && field.isEmpty()) {
+                        quoted = true;
+                    } else if (c == ',') {
+                        fields.add(field.toString());
+                        field.setLength(0);
+                    } else {
+                        field.append(c);
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * JSON Lines（1行に {"summary":..,"description":..,"creatorName":..} を1つ）を読み込む
+     * - 空行は読み飛ばす
+     */
+    static Iterator<IssueImportRow> jsonLines(BufferedReader bufferedReader, ObjectMapper objectMapper) {
+        LineReader reader = new LineReader(bufferedReader);
+        return new RowIterator() {
+            private long lineNumber;
+
+            @Override
+            IssueImportRow read() throws IOException {
+                while (true) {
+                    String line = reader.readLine();
+                    if (line == null) {
+                        return null;
+                    }
+                    lineNumber++;
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    if (reader.isTooLong()) {
+                        return IssueImportRow.invalid(lineNumber, tooLongLine());
+                    }
+                    try {
+                        JsonNode node = objectMapper.readTree(line);
+                        if (!node.isObject()) {
+                            return IssueImportRow.invalid(lineNumber, "JSON オブジェクトではありません");
+                        }
+                        return new IssueImportRow(lineNumber, text(node, "summary"), text(node, "description"),
+                                text(node, "creatorName"), null);
+                    } catch (JsonProcessingException e) {
+                        return IssueImportRow.invalid(lineNumber, "JSON の形式が不正です: " + e.getOriginalMessage());
+                    }
+                }
+            }
+
+            private String text(JsonNode node, String name) {
+                JsonNode value = node.get(name);
+                return value == null || value.isNull() ? null : value.asText();
+            }
+        };
+    }
+
+    private static String tooLongLine() {
+        return "1行が長すぎます（" + MAX_LINE_LENGTH + "文字まで）";
+    }
+
+    /**
+     * 1行を MAX_LINE_LENGTH 文字まで読み込む
+     * - BufferedReader#readLine は改行が来るまで1行全体をメモリに載せるため使わない
+     * - 上限を超えた分は改行まで読み飛ばし、isTooLong() で分かるようにする
+     */
+    private static final class LineReader {
+        private final BufferedReader reader;
+        private final StringBuilder line = new StringBuilder();
+        private boolean tooLong;
+
+        private LineReader(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        /** 次の行（改行 \n・\r\n を除く。終端の場合は null） */
+        String readLine() throws IOException {
+            line.setLength(0);
+            tooLong = false;
+            int c = reader.read();
+            if (c < 0) {
+                return null;
+            }
+            while (c >= 0 && c != '\n') {
+                if (line.length() < MAX_LINE_LENGTH) {
+                    line.append((char) c);
+                } else {
+                    tooLong = true;
+                }
+                c = reader.read();
+            }
+            if (!line.isEmpty() && line.charAt(line.length() - 1) == '\r') {
+                line.setLength(line.length() - 1);
+            }
+            return line.toString();
+        }
+
+        /** 直前に読んだ行が上限を超えていたか */
+        boolean isTooLong() {
+            return tooLong;
+        }
+    }
+
+    /**
+     * 1件先読みする Iterator の共通部分
+     */
+    private abstract static class RowIterator implements Iterator<IssueImportRow> {
+        private IssueImportRow next;
+        private boolean done;
+
+        /** 次の行を読み込む（終端の場合は null） */
+        abstract IssueImportRow read() throws IOException;
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !done) {
+                try {
+                    next = read();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                done = next == null;
+            }
+            return next != null;
+        }
+
+        @Override
+        public IssueImportRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            IssueImportRow row = next;
+            next = null;
+            return row;
+        }
+    }
+}
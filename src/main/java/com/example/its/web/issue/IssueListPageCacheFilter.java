@@ -0,0 +1,153 @@
+package com.example.its.web.issue;
+
+import com.example.its.domain.issue.IssueChangeVersion;
+import com.example.its.domain.issue.IssueChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.support.SessionFlashMapManager;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 課題一覧画面（GET /issues）の描画済み HTML のキャッシュ
+ * - キーワード・カーソル・表示件数と課題の変更バージョン（IssueChangeVersion）をキーにする
+ *   - バージョンは描画前に読むため、キャッシュした HTML がそのバージョンより古い内容になることは無い
+ *   - 課題が変更されたらコミット後に全て捨てる（変更前のバージョンのキーは二度と使われない）
+ * - HTML のバイト数の合計（its.issue.list-page-cache.maximum-size）で上限を設ける
+ * - フラッシュのエラーメッセージが残っている場合は使わない（その回だけ内容が異なるため）
+ * - ヒット・ミス・追い出し件数は /actuator/metrics の cache.* (cache=issueListPage) で確認できる
+ */
+@Component
+@ConditionalOnProperty(name = "its.issue.list-page-cache.enabled", havingValue = "true")
+public class IssueListPageCacheFilter extends OncePerRequestFilter {
+
+    static final String CACHE_NAME = "issueListPage";
+    private static final String FLASH_MAPS = SessionFlashMapManager.class.getName() + ".FLASH_MAPS";
+    private static final Set<String> EXCLUDED_HEADERS = Set.of(HttpHeaders.SET_COOKIE, HttpHeaders.DATE,
+            HttpHeaders.CONTENT_LENGTH, HttpHeaders.TRANSFER_ENCODING);
+    private static final int ENTRY_OVERHEAD = 256; // キー・ヘッダーなど HTML 以外の大まかなバイト数
+
+    private final IssueChangeVersion issueChangeVersion;
+    private final Cache<String, RenderedPage> cache;
+
+    public IssueListPageCacheFilter(IssueChangeVersion issueChangeVersion,
+                                    @Value("${its.issue.list-page-cache.maximum-size:16MB}") DataSize maximumSize,
+                                    MeterRegistry meterRegistry) {
+        this.issueChangeVersion = issueChangeVersion;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumSize.toBytes())
+                .weigher((String key, RenderedPage page) -> page.body().length + key.length() * 2 + ENTRY_OVERHEAD)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod())
+                || !(request.getContextPath() + "/issues").equals(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (hasFlashAttributes(request)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String key = key(request, issueChangeVersion.current());
+        RenderedPage cached = cache.getIfPresent(key);
+        if (cached != null) {
+            write(cached, request, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, wrapper);
+        if (wrapper.getStatus() == HttpServletResponse.SC_OK && response.getHeaders(HttpHeaders.SET_COOKIE).isEmpty()) {
+            cache.put(key, new RenderedPage(wrapper.getContentAsByteArray(), headers(response)));
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    /**
+     * 課題が変更されたらキャッシュを全て捨てる（トランザクションのコミット後に実行）
+     *
+     * @param event 課題の変更イベント
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIssueChanged(IssueChangedEvent event) {
+        cache.invalidateAll();
+    }
+
+    /**
+     * ヒット・ミス・追い出し件数などの統計
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * キャッシュした HTML を返す（ETag・Last-Modified が一致する条件付き GET には 304 を返す）
+     */
+    private void write(RenderedPage page, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String etag = page.headers().getETag();
+        page.headers().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+        if (etag != null
+                && new ServletWebRequest(request, response).checkNotModified(etag, page.headers().getLastModified())) {
+            return;
+        }
+        response.setContentLength(page.body().length);
+        response.getOutputStream().write(page.body());
+    }
+
+    private static boolean hasFlashAttributes(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        return session != null && session.getAttribute(FLASH_MAPS) instanceof Collection<?> flashMaps && !flashMaps.isEmpty();
+    }
+
+    private static String key(HttpServletRequest request, long version) {
+        return version + "|" + request.getParameter("keyword") + "|" + request.getParameter("cursor")
+                + "|" + request.getParameter("size");
+    }
+
+    private static HttpHeaders headers(HttpServletResponse response) {
+        HttpHeaders headers = new HttpHeaders();
+        for (String name : response.getHeaderNames()) {
+            if (EXCLUDED_HEADERS.stream().noneMatch(name::equalsIgnoreCase)) {
+                headers.put(name, new ArrayList<>(response.getHeaders(name)));
+            }
+        }
+        if (response.getContentType() != null) {
+            headers.set(HttpHeaders.CONTENT_TYPE, response.getContentType());
+        }
+        return headers;
+    }
+
+    /**
+     * 描画済みの一覧画面（HTML と応答ヘッダー）
+     */
+    record RenderedPage(byte[] body, HttpHeaders headers) {
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.its.web.issue;
+
+import com.example.its.domain.issue.IssueSuggestion;
+import com.example.its.domain.issue.IssueSummarySuggester;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 概要の入力候補 API（一覧画面の検索欄・作成画面の概要欄から入力のたびに呼ばれる）
+ * - メモリ上のインデックス（IssueSummarySuggester）だけで応答し、DB には問い合わせない
+ *
+ * 例: curl 'http://localhost:8080/issues/suggestions?q=ばぐ&limit=5'
+ */
+@RestController
+@RequestMapping("/issues/suggestions")
+@RequiredArgsConstructor
+public class IssueSuggestionController {
+
+    static final int DEFAULT_LIMIT = 10;
+    static final int MAX_LIMIT = 20;
+
+    private final IssueSummarySuggester issueSummarySuggester;
+
+    /**
+     * 入力された文字列で始まる概要を返す
+     *
+     * @param q     入力中の文字列
+     * @param limit 最大件数（1〜20 に丸める）
+     * @return 入力候補（JSON 配列）
+     */
+    @GetMapping
+    public List<IssueSuggestion> suggest(@RequestParam(name = "q", defaultValue = "") String q,
+                                         @RequestParam(name = "limit", defaultValue = "" + DEFAULT_LIMIT) int limit) {
+        return issueSummarySuggester.suggest(q, Math.max(1, Math.min(limit, MAX_LIMIT)));
+    }
+}
@@ -1,5 +1,9 @@
 package com.example.its.web.issue;
 
+import com.example.its.domain.issue.IssueService;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.PositiveOrZero;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.Setter;
@@ -13,4 +17,11 @@ public class SearchForm {
 
     @Size(max = 256, message = "検索キーワードは最大256文字までです")
     private String keyword; // 検索キーワード
+
+    @PositiveOrZero(message = "カーソルが不正です")
+    private Long cursor; // 前ページ最後の課題ID（先頭ページは未指定）
+
+    @Min(value = 1, message = "表示件数は1件以上です")
+    @Max(value = IssueService.MAX_PAGE_SIZE, message = "表示件数は最大{value}件までです")
+    private Integer size; // 1ページの表示件数（未指定の場合は既定値）
 }
@@ -0,0 +1,48 @@
+CREATE TABLE issues (
+    id BIGINT NOT NULL PRIMARY KEY AUTO_INCREMENT,
+    summary VARCHAR(256) NOT NULL UNIQUE,
+    description VARCHAR(1000) NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    is_deleted BOOLEAN DEFAULT FALSE,
+    deleted_at TIMESTAMP, -- 論理削除した日時（アーカイブの対象判定に使う）
+    version BIGINT NOT NULL DEFAULT 0, -- 楽観的排他制御のバージョン（更新ごとに +1）
+    -- 検索用に正規化した概要・詳細（IssueTextNormalizer: NFKC・小文字・ひらがな）
+    -- NFKC で文字数が増える場合があるため、元の列より長くとる
+    summary_norm VARCHAR(1024),
+    description_norm VARCHAR(4000)
+);
+
+
+
+CREATE TABLE issues_creator (
+    issues_creator_id BIGINT NOT NULL PRIMARY KEY AUTO_INCREMENT,
+    issue_id BIGINT NOT NULL UNIQUE, -- 課題1件につき作成者は1人（JOIN・更新で使うインデックスを兼ねる）
+    creator_name VARCHAR(256) NOT NULL,
+    touroku_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    FOREIGN KEY (issue_id) REFERENCES issues(id)
+);
+
+-- 一覧・検索（is_deleted = false AND id > ? ORDER BY id）のキーセットページング用
+CREATE INDEX idx_issues_is_deleted_id ON issues (is_deleted, id);
+
+-- 論理削除から一定期間が過ぎた課題の移動先（IssueArchiver が移す）
+-- summary は一意にしない（同じ概要の課題を削除・再登録できるようにするため）
+CREATE TABLE issues_archive (
+    id BIGINT NOT NULL PRIMARY KEY,
+    summary VARCHAR(256) NOT NULL,
+    description VARCHAR(1000) NOT NULL,
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP,
+    deleted_at TIMESTAMP,
+    version BIGINT NOT NULL,
+    archived_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE issues_creator_archive (
+    issues_creator_id BIGINT NOT NULL PRIMARY KEY,
+    issue_id BIGINT NOT NULL,
+    creator_name VARCHAR(256) NOT NULL,
+    touroku_date TIMESTAMP,
+    archived_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,14 @@
+-- 課題の変更履歴（IssueHistoryWriter がコミット後にまとめて書き込む）
+-- 課題のアーカイブ後も履歴は残すため、issues への外部キーは付けない
+CREATE TABLE issue_history (
+    id BIGINT NOT NULL PRIMARY KEY AUTO_INCREMENT,
+    issue_id BIGINT NOT NULL,
+    change_type VARCHAR(16) NOT NULL, -- CREATED / UPDATED / DELETED
+    summary VARCHAR(256), -- 変更後の概要（削除の場合は NULL）
+    description VARCHAR(1000), -- 変更後の詳細（削除の場合は NULL）
+    creator_name VARCHAR(256), -- 変更した登録者（削除の場合は NULL）
+    changed_at TIMESTAMP NOT NULL
+);
+
+-- 課題ごとの履歴を新しい順に読む（WHERE issue_id = ? ORDER BY id DESC）
+CREATE INDEX idx_issue_history_issue_id_id ON issue_history (issue_id, id);
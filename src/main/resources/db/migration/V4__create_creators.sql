@@ -0,0 +1,21 @@
+-- 作成者の辞書（課題ごとに名前の文字列を持たず、creator_id で参照する）
+-- 名前の変更はこの表の1行の更新で済み、作成者での絞り込みは整数のインデックスで引ける
+CREATE TABLE creators (
+    id BIGINT NOT NULL PRIMARY KEY AUTO_INCREMENT,
+    name VARCHAR(256) NOT NULL UNIQUE -- 名前から ID を引く（CreatorDictionary が登録・参照する）
+);
+
+INSERT INTO creators (name)
+SELECT DISTINCT creator_name FROM issues_creator ORDER BY creator_name;
+
+ALTER TABLE issues_creator ADD COLUMN creator_id BIGINT;
+
+UPDATE issues_creator ic
+SET creator_id = (SELECT c.id FROM creators c WHERE c.name = ic.creator_name);
+
+ALTER TABLE issues_creator ALTER COLUMN creator_id SET NOT NULL;
+ALTER TABLE issues_creator ADD CONSTRAINT fk_issues_creator_creator_id FOREIGN KEY (creator_id) REFERENCES creators(id);
+ALTER TABLE issues_creator DROP COLUMN creator_name;
+
+-- 作成者ごとの課題を ID 順に引く（WHERE creator_id = ? ORDER BY issue_id）
+CREATE INDEX idx_issues_creator_creator_id ON issues_creator (creator_id, issue_id);
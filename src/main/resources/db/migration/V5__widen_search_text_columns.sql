@@ -0,0 +1,5 @@
+-- 検索用に正規化した概要・詳細の列を、NFKC で最も長くなる場合に合わせて広げる
+-- NFKC は1文字を最大18文字に展開する（U+FDFA など）ため、元の列の18倍をとる
+-- （4倍では入力チェックを通った概要・詳細でも登録・更新が列の長さを超えて失敗していた）
+ALTER TABLE issues ALTER COLUMN summary_norm SET DATA TYPE VARCHAR(4608);     -- 概要 256文字 × 18
+ALTER TABLE issues ALTER COLUMN description_norm SET DATA TYPE VARCHAR(18000); -- 詳細 1000文字 × 18
@@ -1,19 +0,0 @@
-CREATE TABLE issues (
-    id BIGINT NOT NULL PRIMARY KEY AUTO_INCREMENT,
-    summary VARCHAR(256) NOT NULL UNIQUE,
-    description VARCHAR(1000) NOT NULL,
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
-    is_deleted BOOLEAN DEFAULT FALSE
-);
-
-
-
-CREATE TABLE issues_creator (
-    issues_creator_id BIGINT NOT NULL PRIMARY KEY AUTO_INCREMENT,
-    issue_id BIGINT NOT NULL,
-    creator_name VARCHAR(256) NOT NULL,
-    touroku_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
-    FOREIGN KEY (issue_id) REFERENCES issues(id)
-);
-
@@ -0,0 +1,127 @@
+package com.example.its.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.example.its.domain.issue.IssueEntity;
+import com.example.its.domain.issue.IssueRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.LoggerFactory;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+/**
+ * SqlSessionFactory 経由でマッパーを実行し、SqlMetricsInterceptor が記録するメーターとスロークエリのログを確かめる
+ * - メーターは起動時の処理（検索インデックスの構築など）でも記録されるため、実行前後の差で比べる
+ * - しきい値を 0ms にして、実行したステートメントがすべてスロークエリとしてログに出るようにする
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:sqlmetrics;DB_CLOSE_ON_EXIT=TRUE;MODE=MySQL",
+        "its.mybatis.slow-query-threshold=0ms",
+        "its.issue.archive.enabled=false"})
+class SqlMetricsInterceptorTest {
+
+    @Autowired
+    private SqlSessionFactory sqlSessionFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("✅ 取得・更新ごとに実行時間と件数を statement / type タグ付きで記録する")
+    void testRecordsTimerAndRows() {
+        long selects = timerCount("IssueRepository.findBySummary", "SELECT");
+        double selectedRows = rowsTotal("IssueRepository.findBySummary", "SELECT");
+        long updates = timerCount("IssueRepository.touchIssues", "UPDATE");
+        double updatedRows = rowsTotal("IssueRepository.touchIssues", "UPDATE");
+
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            IssueRepository repository = session.getMapper(IssueRepository.class);
+            assertThat(repository.findBySummary("バグA")).isPresent();
+            assertThat(repository.touchIssues(List.of(2L, 3L))).isEqualTo(2);
+        }
+
+        assertThat(timerCount("IssueRepository.findBySummary", "SELECT")).isEqualTo(selects + 1);
+        assertThat(rowsTotal("IssueRepository.findBySummary", "SELECT")).isEqualTo(selectedRows + 1);
+        assertThat(timerCount("IssueRepository.touchIssues", "UPDATE")).isEqualTo(updates + 1);
+        assertThat(rowsTotal("IssueRepository.touchIssues", "UPDATE")).isEqualTo(updatedRows + 2);
+        assertThat(errorCount("IssueRepository.touchIssues", "UPDATE")).isZero();
+    }
+
+    @Test
+    @DisplayName("❌ 失敗したステートメントはエラー件数と実行時間を記録し、件数は記録しない")
+    void testRecordsErrors() {
+        double errors = errorCount("IssueRepository.insert", "INSERT");
+        long inserts = timerCount("IssueRepository.insert", "INSERT");
+        long insertedRows = rowsCount("IssueRepository.insert", "INSERT");
+
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            IssueRepository repository = session.getMapper(IssueRepository.class);
+            // summary は一意のため、登録済みの概要で登録すると失敗する
+            assertThatThrownBy(() -> repository.insert(new IssueEntity(0, "バグA", "重複", null, null, false)))
+                    .isInstanceOf(PersistenceException.class);
+        }
+
+        assertThat(errorCount("IssueRepository.insert", "INSERT")).isEqualTo(errors + 1);
+        assertThat(timerCount("IssueRepository.insert", "INSERT")).isEqualTo(inserts + 1);
+        assertThat(rowsCount("IssueRepository.insert", "INSERT")).isEqualTo(insertedRows);
+    }
+
+    @Test
+    @DisplayName("✅ しきい値を超えた SQL はステートメント名・件数・SQL・バインドパラメーター付きで WARN ログに出す")
+    void testLogsSlowQuery() {
+        Logger logger = (Logger) LoggerFactory.getLogger(SqlMetricsInterceptor.class);
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            session.getMapper(IssueRepository.class).findBySummary("バグA");
+        } finally {
+            logger.detachAppender(appender);
+        }
+
+        assertThat(appender.list).singleElement().satisfies(event -> {
+            assertThat(event.getLevel()).isEqualTo(Level.WARN);
+            assertThat(event.getFormattedMessage())
+                    .startsWith("スロークエリ: com.example.its.domain.issue.IssueRepository.findBySummary ")
+                    .endsWith("ms rows=1 sql=[SELECT * FROM issues WHERE summary = ? LIMIT 1] parameters=[バグA]");
+        });
+    }
+
+    private long timerCount(String statement, String type) {
+        Timer timer = meterRegistry.find("mybatis.statement").tags("statement", statement, "type", type).timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private long rowsCount(String statement, String type) {
+        DistributionSummary rows = rows(statement, type);
+        return rows == null ? 0 : rows.count();
+    }
+
+    private double rowsTotal(String statement, String type) {
+        DistributionSummary rows = rows(statement, type);
+        return rows == null ? 0 : rows.totalAmount();
+    }
+
+    private DistributionSummary rows(String statement, String type) {
+        return meterRegistry.find("mybatis.statement.rows").tags("statement", statement, "type", type).summary();
+    }
+
+    private double errorCount(String statement, String type) {
+        Counter errors = meterRegistry.find("mybatis.statement.errors").tags("statement", statement, "type", type).counter();
+        return errors == null ? 0 : errors.count();
+    }
+}
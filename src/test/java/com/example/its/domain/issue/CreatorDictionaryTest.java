@@ -0,0 +1,97 @@
+package com.example.its.domain.issue;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@ExtendWith(MockitoExtension.class)
+class CreatorDictionaryTest {
+
+    @Mock
+    private CreatorRepository creatorRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CreatorDictionary dictionary;
+
+    @BeforeEach
+    void setUp() {
+        dictionary = new CreatorDictionary(creatorRepository, transactionManager, 100, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("✅ 未登録の名前は登録して ID を返し、2回目以降は DB を読まない")
+    void testIdOfCreatesOnce() {
+        when(creatorRepository.findByName("田中")).thenReturn(Optional.empty());
+        doAnswer(invocation -> {
+            invocation.<CreatorEntity>getArgument(0).setId(5L);
+            return null;
+        }).when(creatorRepository).insertCreatorEntry(any());
+
+        assertThat(dictionary.idOf("田中")).isEqualTo(5L);
+        assertThat(dictionary.idOf("田中")).isEqualTo(5L);
+
+        verify(creatorRepository, times(1)).insertCreatorEntry(any());
+        assertThat(dictionary.nameOf(5L)).isEqualTo("田中"); // 登録した名前は ID からも引ける
+        verify(creatorRepository, never()).findByIds(any());
+    }
+
+    @Test
+    @DisplayName("✅ 同じ名前を他のリクエストが先に登録した場合は登録済みの ID を返す")
+    void testIdOfRetriesOnDuplicate() {
+        when(creatorRepository.findByName("田中"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(new CreatorEntity(9L, "田中")));
+        doThrow(new DuplicateKeyException("duplicate")).when(creatorRepository).insertCreatorEntry(any());
+
+        assertThat(dictionary.idOf("田中")).isEqualTo(9L);
+    }
+
+    @Test
+    @DisplayName("✅ キャッシュに無い ID だけをまとめて読み込む")
+    void testNamesOfLoadsMissesInOneQuery() {
+        when(creatorRepository.findByIds(Set.of(1L, 2L)))
+                .thenReturn(List.of(new CreatorEntity(1L, "田中"), new CreatorEntity(2L, "佐藤")));
+        dictionary.namesOf(List.of(1L, 2L));
+
+        when(creatorRepository.findByIds(Set.of(3L))).thenReturn(List.of());
+        assertThat(dictionary.namesOf(List.of(1L, 2L, 3L))).containsOnlyKeys(1L, 2L).containsEntry(2L, "佐藤");
+
+        verify(creatorRepository, times(2)).findByIds(any());
+    }
+
+    @Test
+    @DisplayName("❌ トランザクション内で呼び出した場合は例外（接続を持ったまま2本目の接続を待たない）")
+    void testIdOfInsideTransaction() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertThatThrownBy(() -> dictionary.idOf("田中")).isInstanceOf(IllegalStateException.class);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+        verifyNoInteractions(creatorRepository);
+    }
+
+    @Test
+    @DisplayName("❌ 名前が空の場合は例外")
+    void testIdOfWithBlankName() {
+        assertThatThrownBy(() -> dictionary.idOf(" ")).isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(creatorRepository);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.its.domain.issue;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class IssueArchiverTest {
+
+    @Mock
+    private IssueArchiveRepository issueArchiveRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private IssueArchiver issueArchiver;
+
+    private final LocalDateTime deletedBefore = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        // バッチサイズ 2、1回の実行で最大 3 バッチ
+        issueArchiver = new IssueArchiver(issueArchiveRepository, transactionManager, true, Duration.ofDays(30), 2, 3);
+    }
+
+    @Test
+    @DisplayName("✅ 対象の課題をバッチごとにコピーしてから削除し、バッチごとにコミットする")
+    void testArchiveInBatches() {
+        when(issueArchiveRepository.findArchivableIssueIds(deletedBefore, 2))
+                .thenReturn(List.of(1L, 2L))
+                .thenReturn(List.of(5L));
+        when(issueArchiveRepository.copyIssues(any())).thenReturn(2, 1);
+        when(issueArchiveRepository.deleteIssues(any())).thenReturn(2, 1);
+
+        int archived = issueArchiver.archive(deletedBefore);
+
+        assertThat(archived).isEqualTo(3);
+        var inOrder = inOrder(issueArchiveRepository);
+        inOrder.verify(issueArchiveRepository).copyIssues(List.of(1L, 2L));
+        inOrder.verify(issueArchiveRepository).copyCreators(List.of(1L, 2L));
+        inOrder.verify(issueArchiveRepository).deleteCreators(List.of(1L, 2L));
+        inOrder.verify(issueArchiveRepository).deleteIssues(List.of(1L, 2L));
+        verify(issueArchiveRepository, times(2)).findArchivableIssueIds(deletedBefore, 2); // 2件目のバッチが半端なので終了
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("✅ 1回の実行で移すのは maxBatches バッチまで")
+    void testArchiveStopsAtMaxBatches() {
+        when(issueArchiveRepository.findArchivableIssueIds(deletedBefore, 2)).thenReturn(List.of(1L, 2L));
+        when(issueArchiveRepository.copyIssues(any())).thenReturn(2);
+        when(issueArchiveRepository.deleteIssues(any())).thenReturn(2);
+
+        assertThat(issueArchiver.archive(deletedBefore)).isEqualTo(6);
+        verify(issueArchiveRepository, times(3)).findArchivableIssueIds(deletedBefore, 2);
+    }
+
+    @Test
+    @DisplayName("❌ コピーと削除の件数が合わない場合、そのバッチをロールバックする")
+    void testArchiveRollsBackOnMismatch() {
+        when(issueArchiveRepository.findArchivableIssueIds(deletedBefore, 2)).thenReturn(List.of(1L, 2L));
+        when(issueArchiveRepository.copyIssues(any())).thenReturn(2);
+        when(issueArchiveRepository.deleteIssues(any())).thenReturn(1);
+
+        assertThatThrownBy(() -> issueArchiver.archive(deletedBefore))
+                .isInstanceOf(IllegalStateException.class);
+        verify(transactionManager, times(1)).rollback(any());
+        verify(transactionManager, never()).commit(any());
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.its.domain.issue;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class IssueChangeVersionTest {
+
+    private final IssueChangeVersion issueChangeVersion = new IssueChangeVersion();
+
+    @Test
+    @DisplayName("✅ 課題の変更イベントを受け取ると一覧の ETag が変わる")
+    void testEtagChangesOnIssueChanged() {
+        String before = issueChangeVersion.etag();
+
+        issueChangeVersion.onIssueChanged(IssueChangedEvent.deleted(1L));
+
+        assertThat(issueChangeVersion.current()).isEqualTo(1L);
+        assertThat(issueChangeVersion.etag()).isNotEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("✅ 課題詳細の ETag はバージョンが変わると変わり、引用符以外の記号を含まない")
+    void testIssueEtag() {
+        String etag = issueChangeVersion.etag(1L, 3L);
+
+        assertThat(etag).isEqualTo(issueChangeVersion.etag(1L, 3L));
+        assertThat(etag).isNotEqualTo(issueChangeVersion.etag(1L, 4L)); // 同じ秒に2回更新されても区別できる
+        assertThat(etag).isNotEqualTo(issueChangeVersion.etag(2L, 3L));
+        assertThat(etag).matches("\"[0-9a-z\\-]+\"");
+    }
+
+    @Test
+    @DisplayName("✅ 変更履歴を含む課題詳細の ETag は、バージョンが同じでもその課題の履歴が書き込まれると変わる")
+    void testIssueEtagWithHistory() {
+        issueChangeVersion.onHistoryWritten(List.of(1L, 2L));
+        String etag1 = issueChangeVersion.etagWithHistory(1L, 3L);
+        String etag2 = issueChangeVersion.etagWithHistory(2L, 3L);
+
+        issueChangeVersion.onHistoryWritten(List.of(2L));
+
+        assertThat(issueChangeVersion.etagWithHistory(1L, 3L)).isEqualTo(etag1); // 他の課題の履歴では変わらない
+        assertThat(issueChangeVersion.etagWithHistory(2L, 3L)).isNotEqualTo(etag2);
+        assertThat(etag1).isNotEqualTo(issueChangeVersion.etag(1L, 3L)).matches("\"[0-9a-z\\-]+\"");
+    }
+
+    @Test
+    @DisplayName("✅ 履歴を書き込んだ記録が無い課題は、どの課題の履歴が書き込まれても ETag が変わる")
+    void testHistoryVersionOfUnknownIssue() {
+        String before = issueChangeVersion.etagWithHistory(9L, 0L);
+
+        issueChangeVersion.onHistoryWritten(List.of(1L));
+
+        assertThat(issueChangeVersion.etagWithHistory(9L, 0L)).isNotEqualTo(before);
+    }
+}
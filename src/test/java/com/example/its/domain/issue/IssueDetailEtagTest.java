@@ -0,0 +1,54 @@
+package com.example.its.domain.issue;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.example.its.web.issue.IssueForm;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+/**
+ * 課題詳細の ETag（バージョンから作る）が、削除の前後で変わることを H2 に対して確かめる
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:detailetag;DB_CLOSE_ON_EXIT=TRUE;MODE=MySQL",
+        "its.issue.archive.enabled=false"})
+class IssueDetailEtagTest {
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private IssueChangeVersion issueChangeVersion;
+
+    @Test
+    @DisplayName("✅ 課題を削除すると詳細の ETag が変わる（削除前の ETag で 304 にならない）")
+    void testEtagChangesAfterDelete() {
+        long id = issueService.createIssueWithCreator("ETag削除", "詳細", "田中");
+        String before = etag(id);
+
+        assertThat(issueService.deleteIssue(id)).isTrue();
+
+        assertThat(etag(id)).isNotEqualTo(before);
+        assertThat(issueService.findDetailById(id).orElseThrow().isDeleted()).isTrue(); // API の詳細はこれを見て 404 にする
+    }
+
+    @Test
+    @DisplayName("✅ 一括削除した課題も詳細の ETag が変わる")
+    void testEtagChangesAfterBulkDelete() {
+        long id = issueService.createIssueWithCreator("ETag一括削除", "詳細", "田中");
+        String before = etag(id);
+
+        assertThat(issueService.deleteIssues(List.of(id)).getSucceeded()).isEqualTo(1);
+
+        assertThat(etag(id)).isNotEqualTo(before);
+    }
+
+    private String etag(long id) {
+        IssueForm form = issueService.findDetailById(id).orElseThrow();
+        return issueChangeVersion.etag(id, form.getVersion());
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.its.domain.issue;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * エクスポートを H2 に対して実行し、絞り込み・作成者名・トランザクションを確かめる
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:export;DB_CLOSE_ON_EXIT=TRUE;MODE=MySQL",
+        "its.issue.archive.enabled=false"})
+class IssueExportServiceTest {
+
+    @Autowired
+    private IssueExportService issueExportService;
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM issues WHERE summary LIKE '出力%'", Integer.class) > 0) {
+            return; // コンテキストは共有されるため、登録は1回だけ
+        }
+        issueService.createIssueWithCreator("出力Export課題", "詳細", "出力太郎");
+        issueService.createIssueWithCreator("出力課題2", "説明に ＥＸＰＯＲＴ を含む", "出力花子");
+        long deleted = issueService.createIssueWithCreator("出力Export削除済み", "詳細", "出力太郎");
+        issueService.deleteIssue(deleted);
+        issueService.createIssueWithCreator("出力課題4", "関係なし", "出力花子");
+    }
+
+    @Test
+    @DisplayName("✅ keyword は一覧の検索と同じく正規化して概要・詳細を絞り込み、削除済みは含めない")
+    void testExportWithKeyword() {
+        List<IssueExportRow> rows = new ArrayList<>();
+
+        long count = issueExportService.exportActiveIssues("ｅｘｐｏｒｔ", rows::add);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(rows)
+                .extracting(IssueExportRow::getSummary, IssueExportRow::getCreatorName)
+                .containsExactly(tuple("出力Export課題", "出力太郎"), tuple("出力課題2", "出力花子"));
+    }
+
+    @Test
+    @DisplayName("✅ keyword を省略した場合は削除されていない全課題を ID 順に書き出す")
+    void testExportAll() {
+        List<IssueExportRow> rows = new ArrayList<>();
+
+        long count = issueExportService.exportActiveIssues(" ", rows::add);
+
+        assertThat(count).isEqualTo(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM issues WHERE is_deleted = false", Long.class));
+        assertThat(rows).extracting(IssueExportRow::getId).isSorted();
+        assertThat(rows).extracting(IssueExportRow::getSummary)
+                .contains("出力Export課題", "出力課題4")
+                .doesNotContain("出力Export削除済み");
+    }
+
+    @Test
+    @DisplayName("✅ 各行は Cursor を開いた読み取り専用トランザクションの中で書き出される")
+    void testRowsAreWrittenInsideReadOnlyTransaction() {
+        List<Boolean> active = new ArrayList<>();
+        List<Boolean> readOnly = new ArrayList<>();
+
+        issueExportService.exportActiveIssues("出力", row -> {
+            active.add(TransactionSynchronizationManager.isActualTransactionActive());
+            readOnly.add(TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+        });
+
+        assertThat(active).hasSize(3).containsOnly(true);
+        assertThat(readOnly).hasSize(3).containsOnly(true);
+        assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isFalse(); // 書き出し後は閉じている
+    }
+
+    @Test
+    @DisplayName("❌ keyword が長すぎる場合は例外")
+    void testExportWithTooLongKeyword() {
+        assertThatThrownBy(() -> issueExportService.exportActiveIssues(
+                "a".repeat(IssueExportService.MAX_KEYWORD_LENGTH + 1), row -> fail("書き出さない")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
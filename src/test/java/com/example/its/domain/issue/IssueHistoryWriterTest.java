@@ -0,0 +1,192 @@
+package com.example.its.domain.issue;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.TransientDataAccessResourceException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@ExtendWith(MockitoExtension.class)
+class IssueHistoryWriterTest {
+
+    @Mock
+    private IssueHistoryRepository issueHistoryRepository;
+
+    private IssueHistoryWriter writer;
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final IssueChangeVersion issueChangeVersion = new IssueChangeVersion();
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) {
+            writer.stop();
+        }
+    }
+
+    private IssueHistoryWriter writer(int queueCapacity, int batchSize, Duration flushInterval) {
+        writer = new IssueHistoryWriter(issueHistoryRepository, issueChangeVersion, queueCapacity, batchSize, flushInterval,
+                Duration.ofMillis(10), Duration.ofMillis(100), meterRegistry);
+        return writer;
+    }
+
+    @Test
+    @DisplayName("✅ 変更イベントを batch-size 件ずつまとめて書き込む")
+    @SuppressWarnings("unchecked")
+    void testWritesInBatches() {
+        IssueHistoryWriter writer = writer(100, 2, Duration.ofSeconds(10));
+        writer.start();
+
+        for (long id = 1; id <= 5; id++) {
+            writer.onIssueChanged(IssueChangedEvent.updated(id, "概要" + id, "詳細", "田中"));
+        }
+        writer.stop();
+
+        ArgumentCaptor<List<IssueHistoryEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(issueHistoryRepository, atLeast(3)).insertAll(captor.capture());
+        assertThat(captor.getAllValues()).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(2));
+        assertThat(captor.getAllValues().stream().flatMap(List::stream).map(IssueHistoryEntity::getIssueId))
+                .containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(captor.getAllValues().get(0).get(0))
+                .extracting(IssueHistoryEntity::getChangeType, IssueHistoryEntity::getCreatorName)
+                .containsExactly(IssueChangedEvent.Type.UPDATED, "田中");
+        assertThat(issueChangeVersion.historyVersion(5L)).isPositive(); // 書き込んだ課題の詳細の ETag が変わる
+    }
+
+    @Test
+    @DisplayName("✅ 停止時に flush-interval を待たずキューの残りを全て書き込む")
+    @SuppressWarnings("unchecked")
+    void testFlushesOnStop() {
+        IssueHistoryWriter writer = writer(100, 100, Duration.ofMinutes(1));
+        writer.start();
+        writer.onIssueChanged(IssueChangedEvent.created(1L, "概要", "詳細", "田中"));
+        writer.onIssueChanged(IssueChangedEvent.deleted(1L));
+
+        long started = System.nanoTime();
+        writer.stop();
+
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(5));
+        ArgumentCaptor<List<IssueHistoryEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(issueHistoryRepository, atLeastOnce()).insertAll(captor.capture());
+        assertThat(captor.getAllValues().stream().flatMap(List::stream).map(IssueHistoryEntity::getChangeType))
+                .containsExactly(IssueChangedEvent.Type.CREATED, IssueChangedEvent.Type.DELETED);
+        assertThat(writer.queued()).isZero();
+    }
+
+    @Test
+    @DisplayName("✅ 停止後の変更イベントは呼び出したスレッドでそのまま書き込む")
+    void testWritesSynchronouslyWhenStopped() {
+        IssueHistoryWriter writer = writer(100, 100, Duration.ofMillis(200));
+
+        writer.onIssueChanged(IssueChangedEvent.deleted(3L));
+
+        verify(issueHistoryRepository).insertAll(argThat(batch -> batch.size() == 1 && batch.get(0).getIssueId() == 3L));
+    }
+
+    @Test
+    @DisplayName("❌ 枠が空かない場合はトランザクションを始める前に変更を断り、コミット済みの履歴は捨てない")
+    void testRejectsBeforeTransactionWhenSlotsAreFull() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(issueHistoryRepository.insertAll(any())).thenAnswer(invocation -> {
+            writing.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return 1;
+        });
+        IssueHistoryWriter writer = writer(1, 1, Duration.ZERO);
+        writer.start();
+
+        writer.withSlots(1, () -> {
+            writer.onIssueChanged(IssueChangedEvent.deleted(1L)); // 書き込み中（DB が遅い）
+            return null;
+        });
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        AtomicBoolean executed = new AtomicBoolean();
+        long started = System.nanoTime();
+        assertThatThrownBy(() -> writer.withSlots(1, () -> executed.getAndSet(true)))
+                .isInstanceOf(IssueHistoryBusyException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isGreaterThanOrEqualTo(Duration.ofMillis(100));
+        assertThat(executed).isFalse();
+        assertThat(meterRegistry.get("its.issue.history.rejected").counter().count()).isEqualTo(1.0);
+
+        writer.onIssueChanged(IssueChangedEvent.deleted(2L)); // 枠を確保せずにコミットされた変更も捨てない
+        assertThat(writer.queued()).isEqualTo(1);
+        release.countDown();
+        writer.stop();
+        verify(issueHistoryRepository, times(2)).insertAll(any());
+        assertThat(writer.usedSlots()).isZero();
+    }
+
+    @Test
+    @DisplayName("✅ 使わなかった枠は処理の後に返し、積んだ枠は書き込んだ後に返す")
+    void testReleasesSlots() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(issueHistoryRepository.insertAll(any())).thenAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return 1;
+        });
+        IssueHistoryWriter writer = writer(10, 10, Duration.ZERO);
+        writer.start();
+
+        String result = writer.withSlots(3, () -> {
+            assertThat(writer.usedSlots()).isEqualTo(3);
+            writer.onIssueChanged(IssueChangedEvent.deleted(1L));
+            return "ok";
+        });
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(writer.usedSlots()).isEqualTo(1); // 書き込み待ちの1件
+        assertThatThrownBy(() -> writer.withSlots(2, () -> {
+            throw new IllegalStateException("失敗");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(writer.usedSlots()).isEqualTo(1);
+        release.countDown();
+        verify(issueHistoryRepository, timeout(5000)).insertAll(any());
+        writer.stop();
+        assertThat(writer.usedSlots()).isZero();
+    }
+
+    @Test
+    @DisplayName("✅ 書き込みに失敗したバッチは捨てずに書き込み直す")
+    @SuppressWarnings("unchecked")
+    void testRetriesFailedBatch() {
+        when(issueHistoryRepository.insertAll(any()))
+                .thenThrow(new TransientDataAccessResourceException("接続を取得できません"))
+                .thenThrow(new TransientDataAccessResourceException("接続を取得できません"))
+                .thenReturn(2);
+        IssueHistoryWriter writer = writer(100, 100, Duration.ofMillis(50));
+        writer.start();
+
+        writer.onIssueChanged(IssueChangedEvent.created(1L, "概要", "詳細", "田中"));
+        writer.onIssueChanged(IssueChangedEvent.updated(1L, "概要", "詳細", "佐藤"));
+
+        ArgumentCaptor<List<IssueHistoryEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(issueHistoryRepository, timeout(5000).times(3)).insertAll(captor.capture());
+        assertThat(captor.getValue()).extracting(IssueHistoryEntity::getCreatorName).containsExactly("田中", "佐藤");
+        assertThat(meterRegistry.get("its.issue.history.failures").counter().count()).isEqualTo(2.0);
+        writer.stop();
+        assertThat(issueChangeVersion.historyVersion(1L)).isEqualTo(1L); // 書き込めたときだけ進む
+        verify(issueHistoryRepository, times(3)).insertAll(any());
+    }
+
+    @Test
+    @DisplayName("❌ queue-capacity が 0 の場合は例外")
+    void testInvalidCapacity() {
+        assertThatThrownBy(() -> writer(0, 1, Duration.ofMillis(200)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.its.domain.issue;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+/**
+ * 一括登録を H2 に対して実行し、BATCH 実行の採番・重複チェック・行ごとのエラーを確かめる
+ * - batch-size を 3 にして、1回の一括登録が複数のバッチ（トランザクション）に分かれるようにする
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:import;DB_CLOSE_ON_EXIT=TRUE;MODE=MySQL",
+        "its.issue.import.batch-size=3",
+        "its.issue.import.max-errors=3",
+        "its.issue.archive.enabled=false"})
+class IssueImportServiceTest {
+
+    @Autowired
+    private IssueImportService issueImportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("✅ 重複・不正な行だけをエラーにし、残りの行は後続のバッチも含めて作成者付きで登録する")
+    void testImportWithDuplicatesAndInvalidRows() {
+        List<IssueImportRow> rows = List.of(
+                // バッチ1
+                new IssueImportRow(2, "取込1", "説明1", "取込太郎", null),
+                new IssueImportRow(3, "バグA", "登録済みの概要", "田中", null),
+                new IssueImportRow(4, "取込1", "ファイル内の重複", "取込花子", null),
+                // バッチ2
+                new IssueImportRow(5, "", "概要が空", "田中", null),
+                IssueImportRow.invalid(6, "列の数が不正です"),
+                new IssueImportRow(7, "取込2", "説明2", "取込太郎", null),
+                // バッチ3
+                new IssueImportRow(8, "取込1", "前のバッチで登録済み", "田中", null),
+                new IssueImportRow(9, "取込3", "説明3", "取込花子", null));
+
+        IssueImportResult result = issueImportService.importIssues(rows.iterator());
+
+        assertThat(result.getImported()).isEqualTo(3);
+        // バッチ内の重複は入力チェックで、登録済みの概要は DB への1回の問い合わせで見つかる（報告はその順）
+        assertThat(result.getErrors())
+                .extracting(IssueImportResult.RowError::getLineNumber, IssueImportResult.RowError::getMessage)
+                .containsExactlyInAnyOrder(
+                        tuple(3L, "同じ概要の課題が既に存在します"),
+                        tuple(4L, "同じ概要の課題が既に存在します"),
+                        tuple(5L, "概要は必須です"));
+        assertThat(result.getOmittedErrors()).isEqualTo(2); // 行6・行8 は件数だけ
+        assertThat(result.getErrorCount()).isEqualTo(5);
+
+        // BATCH 実行で採番された課題IDで作成者が登録されている
+        assertThat(jdbcTemplate.queryForList("""
+                SELECT CONCAT(i.summary, '/', i.description, '/', c.name) FROM issues i
+                JOIN issues_creator ic ON ic.issue_id = i.id
+                JOIN creators c ON c.id = ic.creator_id
+                WHERE i.summary LIKE '取込%'
+                ORDER BY i.id
+                """, String.class))
+                .containsExactly("取込1/説明1/取込太郎", "取込2/説明2/取込太郎", "取込3/説明3/取込花子");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM issues WHERE summary = 'バグA'", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("❌ 不正な行が max-errors 件を超えた分は、行番号を返さず件数だけを返す")
+    void testErrorsAreCapped() {
+        List<IssueImportRow> rows = LongStream.rangeClosed(1, 1000)
+                .mapToObj(line -> IssueImportRow.invalid(line, "列の数が不正です"))
+                .toList();
+
+        IssueImportResult result = issueImportService.importIssues(rows.iterator());
+
+        assertThat(result.getImported()).isZero();
+        assertThat(result.getErrors()).hasSize(3);
+        assertThat(result.getOmittedErrors()).isEqualTo(997);
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.its.domain.issue;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.apache.ibatis.executor.parameter.ParameterHandler;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.scripting.defaults.DefaultParameterHandler;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * IssueRepository / IssueArchiveRepository の各ステートメントが全件走査にならないことを H2 の EXPLAIN で確かめる
+ * - マッパーに登録されたステートメントをすべて対象にするため、クエリを追加すると自動で検査される
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class IssueRepositoryExplainTest {
+
+    @Autowired
+    private SqlSessionFactory sqlSessionFactory;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private static final List<Class<?>> MAPPERS = List.of(IssueRepository.class, IssueArchiveRepository.class,
+            IssueHistoryRepository.class, CreatorRepository.class);
+
+    // 条件の無いアクセス（/* PUBLIC.ISSUES.tableScan */ や /* PUBLIC.PRIMARY_KEY_8 */）は全件走査になる
+    private static final Pattern FULL_SCAN = Pattern.compile("/\\* PUBLIC\\.[\\w.]+ \\*/");
+
+    @Test
+    @DisplayName("✅ マッパーのすべてのステートメントがインデックスの条件で行を絞り込む")
+    void testStatementsUseIndexes() throws Exception {
+        Map<String, String> plans = explainAll();
+
+        assertThat(plans).isNotEmpty();
+        SoftAssertions softly = new SoftAssertions();
+        plans.forEach((id, plan) -> softly.assertThat(FULL_SCAN.matcher(plan).find())
+                .as("%s が全件走査になっています:%n%s", id, plan)
+                .isFalse());
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("✅ 一覧・検索・エクスポートは (is_deleted, id) の複合インデックスを使う")
+    void testActiveListingUsesCompositeIndex() throws Exception {
+        Map<String, String> plans = explainAll();
+
+        for (String method : List.of("findActiveIssues", "findActiveIssueRows", "searchIssues", "streamActiveIssuesWithCreator")) {
+            assertThat(plans.get(IssueRepository.class.getName() + "." + method))
+                    .as(method)
+                    .contains("IDX_ISSUES_IS_DELETED_ID: IS_DELETED = FALSE");
+        }
+    }
+
+    /**
+     * 対象マッパーの各ステートメントを EXPLAIN し、ステートメントID → 実行計画 を返す
+     * - パラメーターは MyBatis と同じ方法（DefaultParameterHandler）でバインドする
+     */
+    private Map<String, String> explainAll() throws Exception {
+        Map<String, String> plans = new LinkedHashMap<>();
+        try (Connection connection = dataSource.getConnection()) {
+            for (MappedStatement statement : sqlSessionFactory.getConfiguration().getMappedStatements()) {
+                if (!isTarget(statement.getId()) || plans.containsKey(statement.getId())) {
+                    continue;
+                }
+                Object parameter = sampleParameters();
+                BoundSql boundSql = statement.getBoundSql(parameter);
+                try (PreparedStatement ps = connection.prepareStatement("EXPLAIN " + boundSql.getSql())) {
+                    ParameterHandler handler = new DefaultParameterHandler(statement, parameter, boundSql);
+                    handler.setParameters(ps);
+                    try (ResultSet rs = ps.executeQuery()) {
+                        rs.next();
+                        plans.put(statement.getId(), rs.getString(1));
+                    }
+                }
+            }
+        }
+        return plans;
+    }
+
+    private static boolean isTarget(String statementId) {
+        return MAPPERS.stream().anyMatch(mapper -> statementId.startsWith(mapper.getName() + "."));
+    }
+
+    /**
+     * どのステートメントにも渡せるよう、マッパーで使うパラメーター名をすべて含めたサンプル値
+     */
+    private static Map<String, Object> sampleParameters() {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("id", 1L);
+        parameters.put("issueId", 1L);
+        parameters.put("afterId", 0L);
+        parameters.put("limit", 20);
+        parameters.put("version", 0L);
+        parameters.put("keyword", "バグ");
+        parameters.put("summary", "バグA");
+        parameters.put("description", "バグがあります");
+        parameters.put("creatorName", "田中");
+        parameters.put("creatorId", 1L);
+        parameters.put("name", "田中");
+        parameters.put("summaries", List.of("バグA", "機能要望B"));
+        parameters.put("ids", List.of(1L, 2L));
+        parameters.put("deletedBefore", LocalDateTime.now());
+        parameters.put("histories", List.of(new IssueHistoryEntity(null, 1L, IssueChangedEvent.Type.UPDATED,
+                "バグA", "バグがあります", "田中", LocalDateTime.now())));
+        return parameters;
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.its.domain.issue;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class IssueSearchIndexTest {
+
+    @Mock
+    private IssueRepository issueRepository;
+
+    private IssueSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new IssueSearchIndex(issueRepository);
+    }
+
+    @Test
+    @DisplayName("✅ 文字列をバイグラムに分割できる")
+    void testGrams() {
+        assertThat(IssueSearchIndex.grams("バグA")).containsExactly("バグ", "グA");
+        assertThat(IssueSearchIndex.grams("A")).isEmpty();
+        assertThat(IssueSearchIndex.grams(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("✅ 起動時に全課題からインデックスを構築できる")
+    void testRebuild() {
+        when(issueRepository.findActiveIssues(0L, 1000)).thenReturn(List.of(
+                new IssueEntity(1L, "バグA", "バグがあります", null, null, false),
+                new IssueEntity(2L, "機能要望B", "Bに追加機能がほしいです", null, null, false)));
+
+        index.rebuild();
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.findCandidates("バグ", 0L, 10)).containsExactly(1L);
+        assertThat(index.findCandidates("機能", 0L, 10)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("✅ 全てのバイグラムを含む課題だけを ID 昇順で返す")
+    void testFindCandidates() {
+        index.index(3L, "ログイン不具合", "特定の条件でログインできない");
+        index.index(1L, "メール通知バグ", "メールが送信されないことがある");
+        index.index(2L, "ログ管理", "エラーログを詳細に記録できるようにしたい");
+
+        assertThat(index.findCandidates("ログ", 0L, 10)).containsExactly(2L, 3L);
+        assertThat(index.findCandidates("ログイン", 0L, 10)).containsExactly(3L);
+        assertThat(index.findCandidates("ログ", 2L, 10)).containsExactly(3L);
+        assertThat(index.findCandidates("ログ", 0L, 1)).containsExactly(2L);
+        assertThat(index.findCandidates("存在しない", 0L, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("✅ 更新・削除がインデックスに反映される")
+    void testUpdateAndRemove() {
+        index.onIssueChanged(IssueChangedEvent.created(1L, "バグA", "バグがあります", "田中"));
+        index.onIssueChanged(IssueChangedEvent.updated(1L, "機能要望A", "追加機能がほしいです", "田中"));
+
+        assertThat(index.findCandidates("バグ", 0L, 10)).isEmpty();
+        assertThat(index.findCandidates("機能", 0L, 10)).containsExactly(1L);
+
+        index.onIssueChanged(IssueChangedEvent.deleted(1L));
+
+        assertThat(index.findCandidates("機能", 0L, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("✅ 全角・大小・カタカナとひらがなの違いを無視して候補を返す")
+    void testFindCandidatesIgnoresWidthCaseAndKana() {
+        index.index(1L, "ＡＰＩのエラー", "ログインできない");
+
+        assertThat(index.findCandidates("api", 0L, 10)).containsExactly(1L);
+        assertThat(index.findCandidates("えらー", 0L, 10)).containsExactly(1L);
+        assertThat(index.findCandidates("ﾛｸﾞｲﾝ", 0L, 10)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("✅ 1文字のキーワードはインデックスで検索できない")
+    void testSupports() {
+        assertThat(index.supports("バ")).isFalse();
+        assertThat(index.supports("バグ")).isTrue();
+        assertThat(index.supports(null)).isFalse();
+    }
+}
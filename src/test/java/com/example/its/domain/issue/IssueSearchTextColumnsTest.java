@@ -0,0 +1,50 @@
+package com.example.its.domain.issue;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.example.its.web.issue.IssueForm;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * NFKC で長くなる文字だけの概要・詳細を、入力チェックの上限の長さで登録・更新・検索できることを確かめる
+ * - U+FDFA は正規化すると18文字になるため、summary_norm / description_norm が元の列の18倍必要になる
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:searchtext;DB_CLOSE_ON_EXIT=TRUE;MODE=MySQL",
+        "its.issue.archive.enabled=false"})
+class IssueSearchTextColumnsTest {
+
+    private static final String EXPANDING = "\uFDFA"; // ﷺ（正規化すると18文字）
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("✅ 正規化で18倍になる文字だけの最大長の概要・詳細でも登録・更新でき、検索で見つかる")
+    void testCreateAndUpdateWithExpandingCharacters() {
+        String summary = EXPANDING.repeat(255) + "1"; // 概要の上限 256文字
+        String description = EXPANDING.repeat(1000); // 詳細の上限 1000文字
+
+        long id = issueService.createIssueWithCreator(summary, description, "田中");
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT CHAR_LENGTH(summary_norm) FROM issues WHERE id = ?", Integer.class, id)).isEqualTo(255 * 18 + 1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT CHAR_LENGTH(description_norm) FROM issues WHERE id = ?", Integer.class, id)).isEqualTo(1000 * 18);
+
+        IssueUpdateResult result = issueService.updateIssue(
+                new IssueForm(id, EXPANDING.repeat(255) + "2", description, "田中", null, null, 0L, false));
+
+        assertThat(result).isEqualTo(IssueUpdateResult.UPDATED);
+        assertThat(issueService.findIssues(EXPANDING.repeat(255) + "2", null, null).getIssues())
+                .extracting(IssueListRow::getId)
+                .containsExactly(id);
+    }
+}
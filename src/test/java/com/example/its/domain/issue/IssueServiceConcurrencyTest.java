@@ -0,0 +1,72 @@
+package com.example.its.domain.issue;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 新しい作成者名での登録・更新が、コネクションプールの本数を超えて同時に来ても詰まらないことを確かめる
+ * - プールを2本にし、それより多いスレッドで未登録の作成者名を同時に使う
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:concurrency;DB_CLOSE_ON_EXIT=TRUE;MODE=MySQL",
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.minimum-idle=2",
+        "spring.datasource.hikari.connection-timeout=1000",
+        "its.issue.archive.enabled=false"})
+class IssueServiceConcurrencyTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("✅ 未登録の作成者名での登録がプールの本数より多く同時に来ても全て成功する")
+    void testCreateWithNewCreatorsConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                int n = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    long id = issueService.createIssueWithCreator("同時登録" + n, "詳細", "同時作成者" + n);
+                    issueService.reassignCreator(List.of(id), "同時変更者" + n);
+                    return id;
+                }));
+            }
+            start.countDown();
+            for (Future<Long> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(jdbcTemplate.queryForList("""
+                SELECT c.name FROM issues i
+                JOIN issues_creator ic ON ic.issue_id = i.id
+                JOIN creators c ON c.id = ic.creator_id
+                WHERE i.summary LIKE '同時登録%'
+                """, String.class))
+                .hasSize(THREADS)
+                .allSatisfy(name -> assertThat(name).startsWith("同時変更者"));
+    }
+}
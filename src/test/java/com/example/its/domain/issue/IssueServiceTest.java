@@ -4,6 +4,7 @@ import static org.mockito.Mockito.*;
 import static org.assertj.core.api.Assertions.*;
 
 import com.example.its.web.issue.IssueForm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -11,11 +12,19 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
 
 
 @ExtendWith(MockitoExtension.class) // MockitoをJUnitに統合
@@ -24,6 +33,26 @@ class IssueServiceTest {
     @Mock
     private IssueRepository issueRepository; // IssueRepository のモックを作成
 
+    @Mock
+    private IssueSearchIndex issueSearchIndex; // 検索インデックスのモック（既定では未構築扱い）
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher; // イベント発行のモック
+
+    @Mock
+    private PlatformTransactionManager transactionManager; // トランザクションのモック（コールバックはそのまま実行される）
+
+    @Mock
+    private CreatorDictionary creatorDictionary; // 作成者の辞書のモック（どの名前も CREATOR_ID を返す）
+
+    @Mock
+    private IssueHistoryWriter issueHistoryWriter; // 変更履歴のライターのモック（既定では枠を確保して処理をそのまま実行する）
+
+    private static final long CREATOR_ID = 7L;
+
+    @Spy
+    private IssueDetailCache issueDetailCache = new IssueDetailCache(100, Duration.ofMinutes(1), new SimpleMeterRegistry()); // 実物のキャッシュを使う
+
     @InjectMocks
     private IssueService issueService; // IssueService にモックを注入
 
@@ -31,6 +60,9 @@ class IssueServiceTest {
     void setUp() {
         // 毎回モックの状態をリセット
         reset(issueRepository);
+        lenient().when(creatorDictionary.idOf(anyString())).thenReturn(CREATOR_ID);
+        lenient().when(issueHistoryWriter.withSlots(anyInt(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
     }
 
 
@@ -40,94 +72,110 @@ class IssueServiceTest {
     @Test
     @DisplayName("✅ 課題を全件取得できる（0件の場合）")
     void testFindIssuesWithNoIssues() {
-        when(issueRepository.findAllActiveIssues()).thenReturn(List.of());
+        when(issueRepository.findActiveIssueRows(0L, 21)).thenReturn(List.of());
 
-        List<IssueEntity> result = issueService.findIssues(null);
+        List<IssueListRow> result = issueService.findIssues(null, null, null).getIssues();
 
         assertThat(result).isEmpty();
-        verify(issueRepository, times(1)).findAllActiveIssues();
+        verify(issueRepository, times(1)).findActiveIssueRows(0L, 21);
     }
 
     @Test
     @DisplayName("✅ 課題を全件取得できる（1件の場合）")
     void testFindIssuesWithOneIssue() {
-        List<IssueEntity> mockIssues = List.of(new IssueEntity(1L, "バグA", "バグがあります", null, null, false));
-        when(issueRepository.findAllActiveIssues()).thenReturn(mockIssues);
+        List<IssueListRow> mockIssues = List.of(new IssueListRow(1L, "バグA", "田中", null));
+        when(issueRepository.findActiveIssueRows(0L, 21)).thenReturn(mockIssues);
 
-        List<IssueEntity> result = issueService.findIssues(null);
+        List<IssueListRow> result = issueService.findIssues(null, null, null).getIssues();
 
-        assertThat(result).hasSize(1).extracting(IssueEntity::getSummary).containsExactly("バグA");
-        verify(issueRepository, times(1)).findAllActiveIssues();
+        assertThat(result).hasSize(1).extracting(IssueListRow::getSummary).containsExactly("バグA");
+        assertThat(result).extracting(IssueListRow::getCreatorName).containsExactly("田中"); // 作成者名も一覧の行に含まれる
+        verify(issueRepository, times(1)).findActiveIssueRows(0L, 21);
+    }
+
+    @Test
+    @DisplayName("✅ 一覧の作成者名は作成者IDから辞書でまとめて引く")
+    void testFindIssuesResolvesCreatorNames() {
+        when(issueRepository.findActiveIssueRows(0L, 21)).thenReturn(List.of(
+                new IssueListRow(1L, "バグA", null, null, 3L),
+                new IssueListRow(2L, "バグB", null, null, 4L),
+                new IssueListRow(3L, "バグC", null, null, 3L)));
+        when(creatorDictionary.namesOf(List.of(3L, 4L, 3L))).thenReturn(Map.of(3L, "田中", 4L, "佐藤"));
+
+        List<IssueListRow> result = issueService.findIssues(null, null, null).getIssues();
+
+        assertThat(result).extracting(IssueListRow::getCreatorName).containsExactly("田中", "佐藤", "田中");
+        verify(creatorDictionary, times(1)).namesOf(anyCollection());
     }
 
     @Test
     @DisplayName("✅ 課題を全件取得できる（複数件の場合）")
     void testFindIssuesWithMultipleIssues() {
-        List<IssueEntity> mockIssues = List.of(
-                new IssueEntity(1L, "バグA", "バグがあります", null, null, false),
-                new IssueEntity(2L, "機能要望B", "Bに追加機能が欲しいです", null, null, false),
-                new IssueEntity(3L, "UI修正", "デザインを修正したい", null, null, false)
+        List<IssueListRow> mockIssues = List.of(
+                new IssueListRow(1L, "バグA", "田中", null),
+                new IssueListRow(2L, "機能要望B", "田中", null),
+                new IssueListRow(3L, "UI修正", "田中", null)
         );
-        when(issueRepository.findAllActiveIssues()).thenReturn(mockIssues);
+        when(issueRepository.findActiveIssueRows(0L, 21)).thenReturn(mockIssues);
 
-        List<IssueEntity> result = issueService.findIssues(null);
+        List<IssueListRow> result = issueService.findIssues(null, null, null).getIssues();
 
         SoftAssertions softly = new SoftAssertions();
         softly.assertThat(result).hasSize(3);
-        softly.assertThat(result).extracting(IssueEntity::getSummary)
+        softly.assertThat(result).extracting(IssueListRow::getSummary)
                 .containsExactlyInAnyOrder("バグA", "機能要望B", "UI修正");
         softly.assertAll();
-        verify(issueRepository, times(1)).findAllActiveIssues();
+        verify(issueRepository, times(1)).findActiveIssueRows(0L, 21);
     }
 
     @Test
     @DisplayName("✅ キーワード検索で一致する課題を1件取得")
     void testSearchIssuesWithOneMatch() {
-        List<IssueEntity> mockIssues = List.of(new IssueEntity(1L, "バグA", "バグがあります", null, null, false));
-        when(issueRepository.searchIssues("バグ")).thenReturn(mockIssues);
+        List<IssueListRow> mockIssues = List.of(new IssueListRow(1L, "バグA", "田中", null));
+        when(issueRepository.searchIssues("ばぐ", 0L, 21)).thenReturn(mockIssues);
 
-        List<IssueEntity> result = issueService.findIssues("バグ");
+        List<IssueListRow> result = issueService.findIssues("バグ", null, null).getIssues();
 
-        assertThat(result).hasSize(1).extracting(IssueEntity::getSummary).containsExactly("バグA");
-        verify(issueRepository, times(1)).searchIssues("バグ");
+        assertThat(result).hasSize(1).extracting(IssueListRow::getSummary).containsExactly("バグA");
+        verify(issueRepository, times(1)).searchIssues("ばぐ", 0L, 21);
     }
 
     @Test
     @DisplayName("✅ キーワード検索で一致する課題を３件以上取得")
     void testSearchIssuesWithMultipleMatches() {
-        List<IssueEntity> mockIssues = List.of(
-                new IssueEntity(1L, "バグA", "バグがあります", null, null, false),
-                new IssueEntity(2L, "バグ修正B", "修正が必要", null, null, false),
-                new IssueEntity(3L, "バグ報告C", "バグ報告が来た", null, null, false)
+        List<IssueListRow> mockIssues = List.of(
+                new IssueListRow(1L, "バグA", "田中", null),
+                new IssueListRow(2L, "バグ修正B", "田中", null),
+                new IssueListRow(3L, "バグ報告C", "田中", null)
         );
-        when(issueRepository.searchIssues("バグ")).thenReturn(mockIssues);
+        when(issueRepository.searchIssues("ばぐ", 0L, 21)).thenReturn(mockIssues);
 
-        List<IssueEntity> result = issueService.findIssues("バグ");
+        List<IssueListRow> result = issueService.findIssues("バグ", null, null).getIssues();
 
         assertThat(result).hasSize(3);
-        verify(issueRepository, times(1)).searchIssues("バグ");
+        verify(issueRepository, times(1)).searchIssues("ばぐ", 0L, 21);
     }
 
     @Test
     @DisplayName("✅ キーワード検索で一致しない場合")
     void testSearchIssuesWithNoMatches() {
-        when(issueRepository.searchIssues("存在しない")).thenReturn(List.of());
+        when(issueRepository.searchIssues("存在しない", 0L, 21)).thenReturn(List.of());
 
-        List<IssueEntity> result = issueService.findIssues("存在しない");
+        List<IssueListRow> result = issueService.findIssues("存在しない", null, null).getIssues();
 
         assertThat(result).isEmpty();
-        verify(issueRepository, times(1)).searchIssues("存在しない");
+        verify(issueRepository, times(1)).searchIssues("存在しない", 0L, 21);
     }
 
     @Test
     @DisplayName("❌ keyword に特殊文字を含める")
     void testSearchIssuesWithSpecialCharacters() {
-        when(issueRepository.searchIssues("!@#$%")).thenReturn(List.of());
+        when(issueRepository.searchIssues("!@#$%", 0L, 21)).thenReturn(List.of());
 
-        List<IssueEntity> result = issueService.findIssues("!@#$%");
+        List<IssueListRow> result = issueService.findIssues("!@#$%", null, null).getIssues();
 
         assertThat(result).isEmpty();
-        verify(issueRepository, times(1)).searchIssues("!@#$%");
+        verify(issueRepository, times(1)).searchIssues("!@#$%", 0L, 21);
     }
 
     @Test
@@ -135,7 +183,7 @@ class IssueServiceTest {
     void testSearchIssuesWithTooLongKeyword() {
         String longKeyword = "a".repeat(257);
 
-        assertThatThrownBy(() -> issueService.findIssues(longKeyword))
+        assertThatThrownBy(() -> issueService.findIssues(longKeyword, null, null))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("検索キーワードが長すぎます");
     }
@@ -143,35 +191,110 @@ class IssueServiceTest {
     @Test
     @DisplayName("❌ keyword に SQL インジェクションを試みる")
     void testSearchIssuesWithSQLInjection() {
-        when(issueRepository.searchIssues("' OR 1=1 --")).thenReturn(List.of());
+        when(issueRepository.searchIssues("' or 1=1 --", 0L, 21)).thenReturn(List.of());
 
-        List<IssueEntity> result = issueService.findIssues("' OR 1=1 --");
+        List<IssueListRow> result = issueService.findIssues("' OR 1=1 --", null, null).getIssues();
 
         assertThat(result).isEmpty();
-        verify(issueRepository, times(1)).searchIssues("' OR 1=1 --");
+        verify(issueRepository, times(1)).searchIssues("' or 1=1 --", 0L, 21);
+    }
+
+    @Test
+    @DisplayName("✅ キーワードは全角・大小・カタカナの違いをそろえてから検索する")
+    void testSearchIssuesWithNormalizedKeyword() {
+        when(issueRepository.searchIssues("apiのばぐ", 0L, 21)).thenReturn(List.of());
+
+        issueService.findIssues("ＡＰＩのバグ", null, null);
+
+        verify(issueRepository, times(1)).searchIssues("apiのばぐ", 0L, 21);
     }
 
     @Test
     @DisplayName("❌ keyword に XSS 攻撃を試みる")
     void testSearchIssuesWithXSS() {
-        when(issueRepository.searchIssues("<script>alert('XSS')</script>")).thenReturn(List.of());
+        when(issueRepository.searchIssues("<script>alert('xss')</script>", 0L, 21)).thenReturn(List.of());
 
-        List<IssueEntity> result = issueService.findIssues("<script>alert('XSS')</script>");
+        List<IssueListRow> result = issueService.findIssues("<script>alert('XSS')</script>", null, null).getIssues();
 
         assertThat(result).isEmpty();
-        verify(issueRepository, times(1)).searchIssues("<script>alert('XSS')</script>");
+        verify(issueRepository, times(1)).searchIssues("<script>alert('xss')</script>", 0L, 21);
     }
 
     @Test
     @DisplayName("❌ DB接続エラーが発生した場合")
     void testFindIssuesWithDBError() {
-        when(issueRepository.findAllActiveIssues()).thenThrow(new RuntimeException("DB接続エラー"));
+        when(issueRepository.findActiveIssueRows(0L, 21)).thenThrow(new RuntimeException("DB接続エラー"));
 
-        assertThatThrownBy(() -> issueService.findIssues(null))
+        assertThatThrownBy(() -> issueService.findIssues(null, null, null))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("DB接続エラー");
     }
 
+    @Test
+    @DisplayName("✅ 1ページを超える場合は次ページのカーソルを返す")
+    void testFindIssuesWithNextPage() {
+        List<IssueListRow> mockIssues = List.of(
+                new IssueListRow(11L, "バグA", "田中", null),
+                new IssueListRow(12L, "機能要望B", "田中", null),
+                new IssueListRow(15L, "UI修正", "田中", null)
+        );
+        when(issueRepository.findActiveIssueRows(10L, 3)).thenReturn(mockIssues);
+
+        IssuePage result = issueService.findIssues(null, 10L, 2);
+
+        assertThat(result.getIssues()).extracting(IssueListRow::getId).containsExactly(11L, 12L);
+        assertThat(result.getNextCursor()).isEqualTo(12L);
+    }
+
+    @Test
+    @DisplayName("✅ 最終ページの場合は次ページのカーソルが null")
+    void testFindIssuesWithLastPage() {
+        List<IssueListRow> mockIssues = List.of(new IssueListRow(11L, "バグA", "田中", null));
+        when(issueRepository.searchIssues("ばぐ", 10L, 3)).thenReturn(mockIssues);
+
+        IssuePage result = issueService.findIssues("バグ", 10L, 2);
+
+        assertThat(result.getIssues()).hasSize(1);
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("✅ 検索インデックス構築後は候補の課題だけを DB で確認する")
+    void testSearchIssuesWithIndex() {
+        when(issueSearchIndex.isReady()).thenReturn(true);
+        when(issueSearchIndex.supports("ばぐ")).thenReturn(true);
+        when(issueSearchIndex.findCandidates("ばぐ", 0L, 100)).thenReturn(List.of(2L, 5L));
+        List<IssueListRow> mockIssues = List.of(new IssueListRow(2L, "バグA", "田中", null));
+        when(issueRepository.searchIssuesByIds("ばぐ", List.of(2L, 5L), 21)).thenReturn(mockIssues);
+
+        List<IssueListRow> result = issueService.findIssues("バグ", null, null).getIssues();
+
+        assertThat(result).extracting(IssueListRow::getId).containsExactly(2L);
+        verify(issueRepository, never()).searchIssues(anyString(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("✅ 検索インデックスに候補が無い場合は DB に問い合わせない")
+    void testSearchIssuesWithIndexNoCandidates() {
+        when(issueSearchIndex.isReady()).thenReturn(true);
+        when(issueSearchIndex.supports("存在しない")).thenReturn(true);
+        when(issueSearchIndex.findCandidates("存在しない", 0L, 100)).thenReturn(List.of());
+
+        IssuePage result = issueService.findIssues("存在しない", null, null);
+
+        assertThat(result.getIssues()).isEmpty();
+        assertThat(result.getNextCursor()).isNull();
+        verifyNoInteractions(issueRepository);
+    }
+
+    @Test
+    @DisplayName("❌ pageSize が最大件数を超える")
+    void testFindIssuesWithTooLargePageSize() {
+        assertThatThrownBy(() -> issueService.findIssues(null, null, IssueService.MAX_PAGE_SIZE + 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("pageSize");
+    }
+
     // -------------------------------------------------------------------------------------------------------------------------------------------
     // 課題詳細取得
     // -------------------------------------------------------------------------------------------------------------------------------------------
@@ -179,7 +302,7 @@ class IssueServiceTest {
     @DisplayName("✅ 存在する課題の詳細を取得できる")
     void testFindDetailByIdWithExistingIssue() {
         // モックデータを準備
-        IssueForm mockIssue = new IssueForm(1L, "バグA", "バグがあります", "田中", null, null);
+        IssueForm mockIssue = new IssueForm(1L, "バグA", "バグがあります", "田中", null, null, 0L, false);
         when(issueRepository.findDetailById(1L)).thenReturn(Optional.of(mockIssue));
 
         // 実行
@@ -231,7 +354,7 @@ class IssueServiceTest {
     @DisplayName("❌ issueId が論理削除されている場合、IllegalStateException をスローする")
     void testFindDetailByIdWithDeletedIssue() {
         // モック設定（削除された課題）
-        IssueForm deletedIssue = new IssueForm(1L, "削除済み課題", "この課題は削除されています", "田中", null, null);
+        IssueForm deletedIssue = new IssueForm(1L, "削除済み課題", "この課題は削除されています", "田中", null, null, 0L, true);
         when(issueRepository.findDetailById(1L)).thenReturn(Optional.of(deletedIssue));
 
         // 実行 & 検証（IllegalStateException を期待）
@@ -262,6 +385,47 @@ class IssueServiceTest {
         verify(issueRepository, times(1)).findDetailById(1L);
     }
 
+    @Test
+    @DisplayName("✅ 2回目以降の課題詳細はキャッシュから取得する")
+    void testFindDetailByIdFromCache() {
+        IssueForm mockIssue = new IssueForm(1L, "バグA", "バグがあります", "田中", null, null, 0L, false);
+        when(issueRepository.findDetailById(1L)).thenReturn(Optional.of(mockIssue));
+
+        issueService.findDetailById(1L);
+        Optional<IssueForm> result = issueService.findDetailById(1L);
+
+        assertThat(result).isPresent();
+        assertThat(result.get().getSummary()).isEqualTo("バグA");
+        verify(issueRepository, times(1)).findDetailById(1L);
+        assertThat(issueDetailCache.stats().hitCount()).isEqualTo(1);
+        assertThat(issueDetailCache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("✅ 課題が更新されるとキャッシュが無効化される")
+    void testFindDetailByIdAfterInvalidation() {
+        when(issueRepository.findDetailById(1L))
+                .thenReturn(Optional.of(new IssueForm(1L, "バグA", "バグがあります", "田中", null, null, 0L, false)))
+                .thenReturn(Optional.of(new IssueForm(1L, "修正後のバグA", "バグがあります", "田中", null, null, 0L, false)));
+
+        issueService.findDetailById(1L);
+        issueDetailCache.onIssueChanged(IssueChangedEvent.updated(1L, "修正後のバグA", "バグがあります", "田中"));
+        Optional<IssueForm> result = issueService.findDetailById(1L);
+
+        assertThat(result.get().getSummary()).isEqualTo("修正後のバグA");
+        verify(issueRepository, times(2)).findDetailById(1L);
+    }
+
+    @Test
+    @DisplayName("✅ 取得した課題詳細を変更してもキャッシュには影響しない")
+    void testFindDetailByIdReturnsCopy() {
+        when(issueRepository.findDetailById(1L)).thenReturn(Optional.of(new IssueForm(1L, "バグA", "バグがあります", "田中", null, null, 0L, false)));
+
+        issueService.findDetailById(1L).get().setSummary("書き換え");
+
+        assertThat(issueService.findDetailById(1L).get().getSummary()).isEqualTo("バグA");
+    }
+
     // -------------------------------------------------------------------------------------------------------------------------------------------
     // 課題登録
     // -------------------------------------------------------------------------------------------------------------------------------------------
@@ -276,7 +440,8 @@ class IssueServiceTest {
 
         // insert()とinsertCreator()が呼ばれたことを検証
         verify(issueRepository, times(1)).insert(any(IssueEntity.class));
-        verify(issueRepository, times(1)).insertCreator(anyLong(), eq("田中"));
+        verify(issueRepository, times(1)).insertCreator(anyLong(), eq(CREATOR_ID));
+        verify(eventPublisher, times(1)).publishEvent(any(IssueChangedEvent.class));
     }
 
     @Test
@@ -329,35 +494,42 @@ class IssueServiceTest {
     @Test
     @DisplayName("✅ 存在する課題を正常に更新できる")
     void testUpdateExistingIssue() {
-        // 既存の課題データをモック
-        IssueForm form = new IssueForm(9223372036854770000L, "修正後のバグA", "修正後の詳細", "田中", null, null);
-
-        // ✅ `findById()` のモックを追加する
-        IssueEntity existingIssue = new IssueEntity(form.getId(), "元のバグA", "元の詳細", null, null, false);
-        when(issueRepository.findById(form.getId())).thenReturn(Optional.of(existingIssue));
-
-        // ✅ `findBySummary()` のモックを追加する（既に同じ summary が存在しないようにする）
-        when(issueRepository.findBySummary(form.getSummary())).thenReturn(Optional.empty());
+        IssueForm form = new IssueForm(9223372036854770000L, "修正後のバグA", "修正後の詳細", "田中", null, null, 0L, false);
 
-        when(issueRepository.updateIssue(form.getId(), form.getSummary(), form.getDescription())).thenReturn(1);
-        when(issueRepository.updateCreator(form.getId(), form.getCreatorName())).thenReturn(1);
+        when(issueRepository.updateIssue(form.getId(), form.getSummary(), form.getDescription(), CREATOR_ID, form.getVersion())).thenReturn(1);
+        when(issueRepository.updateCreator(form.getId(), CREATOR_ID)).thenReturn(1);
 
         // 実行
-        boolean result = issueService.updateIssue(form);
+        IssueUpdateResult result = issueService.updateIssue(form);
 
-        // 検証
-        assertThat(result).isTrue();
-        verify(issueRepository, times(1)).findById(form.getId()); // findById() が呼ばれたことを確認
-        verify(issueRepository, times(1)).findBySummary(form.getSummary()); // findBySummary() も確認
-        verify(issueRepository, times(1)).updateIssue(form.getId(), form.getSummary(), form.getDescription());
-        verify(issueRepository, times(1)).updateCreator(form.getId(), form.getCreatorName());
+        // 検証（条件付き UPDATE と作成者の UPDATE の2回だけ）
+        assertThat(result).isEqualTo(IssueUpdateResult.UPDATED);
+        verify(issueRepository, times(1)).updateIssue(form.getId(), form.getSummary(), form.getDescription(), CREATOR_ID, form.getVersion());
+        verify(issueRepository, times(1)).updateCreator(form.getId(), CREATOR_ID);
+        verify(issueRepository, never()).findById(anyLong());
+        verify(issueRepository, never()).findBySummary(anyString());
+        verify(issueRepository, never()).findUpdateBlocker(anyLong(), anyString(), anyLong());
+        verify(eventPublisher, times(1)).publishEvent(IssueChangedEvent.updated(
+                form.getId(), form.getSummary(), form.getDescription(), form.getCreatorName()));
     }
 
+    @Test
+    @DisplayName("❌ 更新できなかった場合、その理由を返し、作成者の更新・イベント発行はしない")
+    void testUpdateIssueNotApplied() {
+        IssueForm form = new IssueForm(9223372036854770000L, "バグA", "修正後の詳細", "田中", null, null, 0L, false);
+
+        when(issueRepository.updateIssue(form.getId(), form.getSummary(), form.getDescription(), CREATOR_ID, form.getVersion())).thenReturn(0);
+        when(issueRepository.findUpdateBlocker(form.getId(), form.getSummary(), form.getVersion())).thenReturn(Optional.of(IssueUpdateResult.UNCHANGED));
+
+        assertThat(issueService.updateIssue(form)).isEqualTo(IssueUpdateResult.UNCHANGED);
+        verify(issueRepository, never()).updateCreator(anyLong(), anyLong());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
 
     @Test
     @DisplayName("❌ summary が空の場合、IllegalArgumentException をスローする")
     void testUpdateIssueWithEmptySummary() {
-        IssueForm form = new IssueForm(9223372036854770000L, "", "詳細", "田中", null, null);
+        IssueForm form = new IssueForm(9223372036854770000L, "", "詳細", "田中", null, null, 0L, false);
 
         assertThatThrownBy(() -> issueService.updateIssue(form))
                 .isInstanceOf(IllegalArgumentException.class)
@@ -367,7 +539,7 @@ class IssueServiceTest {
     @Test
     @DisplayName("❌ description が空の場合、IllegalArgumentException をスローする")
     void testUpdateIssueWithEmptyDescription() {
-        IssueForm form = new IssueForm(9223372036854770000L, "バグD", "", "田中", null, null);
+        IssueForm form = new IssueForm(9223372036854770000L, "バグD", "", "田中", null, null, 0L, false);
 
         assertThatThrownBy(() -> issueService.updateIssue(form))
                 .isInstanceOf(IllegalArgumentException.class)
@@ -377,7 +549,7 @@ class IssueServiceTest {
     @Test
     @DisplayName("❌ summary が NULL の場合、IllegalArgumentException をスローする")
     void testUpdateIssueWithNullSummary() {
-        IssueForm form = new IssueForm(9223372036854770000L, null, "詳細", "田中", null, null);
+        IssueForm form = new IssueForm(9223372036854770000L, null, "詳細", "田中", null, null, 0L, false);
 
         assertThatThrownBy(() -> issueService.updateIssue(form))
                 .isInstanceOf(IllegalArgumentException.class)
@@ -385,40 +557,45 @@ class IssueServiceTest {
     }
 
     @Test
-    @DisplayName("❌ 既に存在する summary を登録しようとすると、IllegalArgumentException をスロー")
+    @DisplayName("❌ 既に存在する summary に更新しようとすると、DUPLICATE_SUMMARY を返す")
     void testUpdateIssueWithDuplicateSummary() {
-        // 既に存在する summary のモック設定
-        when(issueRepository.findBySummary("バグA")).thenReturn(Optional.of(new IssueEntity(1L, "バグA", "バグがあります", null, null, false)));
+        IssueForm form = new IssueForm(9223372036854770000L, "バグA", "修正後の詳細", "田中", null, null, 0L, false);
 
-        IssueForm form = new IssueForm(9223372036854770000L, "バグA", "修正後の詳細", "田中", null, null);
+        when(issueRepository.updateIssue(form.getId(), form.getSummary(), form.getDescription(), CREATOR_ID, form.getVersion())).thenReturn(0);
+        when(issueRepository.findUpdateBlocker(form.getId(), form.getSummary(), form.getVersion())).thenReturn(Optional.of(IssueUpdateResult.DUPLICATE_SUMMARY));
 
-        assertThatThrownBy(() -> issueService.updateIssue(form))
-                .isInstanceOf(IllegalArgumentException.class)
-                .hasMessage("同じ概要の課題が既に存在します");
+        assertThat(issueService.updateIssue(form)).isEqualTo(IssueUpdateResult.DUPLICATE_SUMMARY);
     }
 
     @Test
-    @DisplayName("❌ 存在しない issueId の課題を更新しようとすると、RuntimeException をスローする")
-    void testUpdateNonExistingIssue() {
-        IssueForm form = new IssueForm(999L, "バグJ", "詳細", "田中", null, null);
+    @DisplayName("❌ 同時に同じ summary へ更新され一意制約に違反した場合も、DUPLICATE_SUMMARY を返す")
+    void testUpdateIssueWithConcurrentDuplicateSummary() {
+        IssueForm form = new IssueForm(9223372036854770000L, "バグA", "修正後の詳細", "田中", null, null, 0L, false);
 
-        // モックの設定（指定された ID の課題が存在しない場合）
-        when(issueRepository.findById(form.getId())).thenReturn(Optional.empty());
+        when(issueRepository.updateIssue(form.getId(), form.getSummary(), form.getDescription(), CREATOR_ID, form.getVersion()))
+                .thenThrow(new DuplicateKeyException("summary"));
 
-        // 実行 & 検証（例外がスローされることを確認）
-        assertThatThrownBy(() -> issueService.updateIssue(form))
-                .isInstanceOf(RuntimeException.class)
-                .hasMessage("指定された課題が存在しません");
+        assertThat(issueService.updateIssue(form)).isEqualTo(IssueUpdateResult.DUPLICATE_SUMMARY);
+        verify(issueRepository, never()).updateCreator(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("❌ 存在しない issueId の課題を更新しようとすると、NOT_FOUND を返す")
+    void testUpdateNonExistingIssue() {
+        IssueForm form = new IssueForm(999L, "バグJ", "詳細", "田中", null, null, 0L, false);
 
-        // updateIssue() が実際に呼ばれていないことを検証
-        verify(issueRepository, never()).updateIssue(anyLong(), anyString(), anyString());
-        verify(issueRepository, never()).updateCreator(anyLong(), anyString());
+        // 理由を調べるクエリも課題を見つけられない
+        when(issueRepository.updateIssue(form.getId(), form.getSummary(), form.getDescription(), CREATOR_ID, form.getVersion())).thenReturn(0);
+        when(issueRepository.findUpdateBlocker(form.getId(), form.getSummary(), form.getVersion())).thenReturn(Optional.empty());
+
+        assertThat(issueService.updateIssue(form)).isEqualTo(IssueUpdateResult.NOT_FOUND);
+        verify(issueRepository, never()).updateCreator(anyLong(), anyLong());
     }
 
     @Test
     @DisplayName("❌ issueId が NULL の場合、IllegalArgumentException をスローする")
     void testUpdateIssueWithNullId() {
-        IssueForm form = new IssueForm(null, "バグK", "詳細", "田中", null, null);
+        IssueForm form = new IssueForm(null, "バグK", "詳細", "田中", null, null, 0L, false);
 
         assertThatThrownBy(() -> issueService.updateIssue(form))
                 .isInstanceOf(IllegalArgumentException.class)
@@ -428,7 +605,7 @@ class IssueServiceTest {
     @Test
     @DisplayName("❌ issueId が負の値の場合、IllegalArgumentException をスローする")
     void testUpdateIssueWithNegativeId() {
-        IssueForm form = new IssueForm(-9223372036854770000L, "バグL", "詳細", "田中", null, null);
+        IssueForm form = new IssueForm(-9223372036854770000L, "バグL", "詳細", "田中", null, null, 0L, false);
 
         assertThatThrownBy(() -> issueService.updateIssue(form))
                 .isInstanceOf(IllegalArgumentException.class)
@@ -436,15 +613,38 @@ class IssueServiceTest {
     }
 
     @Test
-    @DisplayName("❌ issueId が論理削除された場合、RuntimeException をスローする")
-    void testUpdateDeletedIssue() {
-        IssueForm form = new IssueForm(9223372036854770000L, "バグO", "詳細", "田中", null, null);
+    @DisplayName("❌ 表示した後に他のユーザーが更新していた場合、CONFLICT を返す")
+    void testUpdateIssueWithStaleVersion() {
+        IssueForm form = new IssueForm(1L, "バグA", "修正後の詳細", "田中", null, null, 3L, false);
 
-        when(issueRepository.findById(form.getId())).thenReturn(Optional.of(new IssueEntity(form.getId(), "バグO", "詳細", null, null, true)));
+        // バージョンが一致しないため UPDATE は0件
+        when(issueRepository.updateIssue(1L, "バグA", "修正後の詳細", CREATOR_ID, 3L)).thenReturn(0);
+        when(issueRepository.findUpdateBlocker(1L, "バグA", 3L)).thenReturn(Optional.of(IssueUpdateResult.CONFLICT));
+
+        assertThat(issueService.updateIssue(form)).isEqualTo(IssueUpdateResult.CONFLICT);
+        verify(issueRepository, never()).updateCreator(anyLong(), anyLong());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("❌ version が NULL の場合、IllegalArgumentException をスローする")
+    void testUpdateIssueWithNullVersion() {
+        IssueForm form = new IssueForm(1L, "バグA", "修正後の詳細", "田中", null, null, null, false);
 
         assertThatThrownBy(() -> issueService.updateIssue(form))
-                .isInstanceOf(RuntimeException.class)
-                .hasMessage("指定された課題は削除されています");
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("version は NULL であってはなりません");
+    }
+
+    @Test
+    @DisplayName("❌ issueId が論理削除された場合、DELETED を返す")
+    void testUpdateDeletedIssue() {
+        IssueForm form = new IssueForm(9223372036854770000L, "バグO", "詳細", "田中", null, null, 0L, false);
+
+        when(issueRepository.updateIssue(form.getId(), form.getSummary(), form.getDescription(), CREATOR_ID, form.getVersion())).thenReturn(0);
+        when(issueRepository.findUpdateBlocker(form.getId(), form.getSummary(), form.getVersion())).thenReturn(Optional.of(IssueUpdateResult.DELETED));
+
+        assertThat(issueService.updateIssue(form)).isEqualTo(IssueUpdateResult.DELETED);
     }
 
 
@@ -463,6 +663,7 @@ class IssueServiceTest {
         // 結果を検証
         assertThat(result).isTrue();
         verify(issueRepository, times(1)).deleteIssue(9223372036854770000L);
+        verify(eventPublisher, times(1)).publishEvent(IssueChangedEvent.deleted(9223372036854770000L));
     }
 
     @Test
@@ -560,4 +761,96 @@ class IssueServiceTest {
     }
 
 
+    // -------------------------------------------------------------------------------------------------------------------------------------------
+    // 一括削除・作成者の一括変更
+    // -------------------------------------------------------------------------------------------------------------------------------------------
+    @Test
+    @DisplayName("✅ 一括削除は未削除の課題だけを1回の UPDATE で削除し、課題ごとの結果を指定順で返す")
+    void testDeleteIssues() {
+        when(issueRepository.lockIssues(List.of(3L, 1L, 2L))).thenReturn(List.of(
+                new IssueEntity(1L, "バグA", "バグがあります", null, null, false),
+                new IssueEntity(2L, "バグB", "バグがあります", null, null, true)));
+
+        IssueBulkResult result = issueService.deleteIssues(List.of(3L, 1L, 2L, 1L)); // 重複は1件にまとめる
+
+        assertThat(result.getItems()).extracting(IssueBulkResult.Item::getId, IssueBulkResult.Item::getOutcome)
+                .containsExactly(tuple(3L, IssueBulkOutcome.NOT_FOUND), tuple(1L, IssueBulkOutcome.SUCCEEDED),
+                        tuple(2L, IssueBulkOutcome.DELETED));
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        verify(issueRepository, times(1)).deleteActiveIssues(List.of(1L));
+        verify(eventPublisher, times(1)).publishEvent(IssueChangedEvent.deleted(1L));
+    }
+
+    @Test
+    @DisplayName("✅ 一括削除は指定が多い場合に IN 句の件数ごとに分けて実行する")
+    void testDeleteIssuesInChunks() {
+        List<Long> ids = LongStream.rangeClosed(1, IssueService.BULK_CHUNK_SIZE + 1).boxed().toList();
+        when(issueRepository.lockIssues(anyList())).thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).stream()
+                .map(id -> new IssueEntity(id, "課題" + id, "詳細", null, null, false))
+                .toList());
+
+        IssueBulkResult result = issueService.deleteIssues(ids);
+
+        assertThat(result.getSucceeded()).isEqualTo(ids.size());
+        verify(issueRepository, times(1)).deleteActiveIssues(ids.subList(0, IssueService.BULK_CHUNK_SIZE));
+        verify(issueRepository, times(1)).deleteActiveIssues(List.of((long) IssueService.BULK_CHUNK_SIZE + 1));
+    }
+
+    @Test
+    @DisplayName("✅ 作成者の一括変更は作成者が異なる未削除の課題だけを変更し、更新イベントを発行する")
+    void testReassignCreator() {
+        when(issueRepository.lockIssues(List.of(1L, 2L, 3L))).thenReturn(List.of(
+                new IssueEntity(1L, "バグA", "バグがあります", null, null, false),
+                new IssueEntity(2L, "バグB", "バグがあります", null, null, false),
+                new IssueEntity(3L, "バグC", "バグがあります", null, null, true)));
+        when(issueRepository.findCreators(List.of(1L, 2L))).thenReturn(List.of(
+                new IssueCreatorEntity(11L, 1L, 3L, null),
+                new IssueCreatorEntity(12L, 2L, CREATOR_ID, null))); // 課題2は変更後と同じ作成者
+
+        IssueBulkResult result = issueService.reassignCreator(List.of(1L, 2L, 3L), "佐藤");
+
+        assertThat(result.getItems()).extracting(IssueBulkResult.Item::getOutcome)
+                .containsExactly(IssueBulkOutcome.SUCCEEDED, IssueBulkOutcome.UNCHANGED, IssueBulkOutcome.DELETED);
+        verify(issueRepository, times(1)).touchIssues(List.of(1L));
+        verify(issueRepository, times(1)).updateCreators(List.of(1L), CREATOR_ID);
+        verify(eventPublisher, times(1)).publishEvent(IssueChangedEvent.updated(1L, "バグA", "バグがあります", "佐藤"));
+    }
+
+    @Test
+    @DisplayName("✅ 作成者の一括変更は作成者名の前後の空白を除いて登録する")
+    void testReassignCreatorTrimsName() {
+        when(issueRepository.lockIssues(List.of(1L))).thenReturn(List.of(
+                new IssueEntity(1L, "バグA", "バグがあります", null, null, false)));
+        when(issueRepository.findCreators(List.of(1L))).thenReturn(List.of(new IssueCreatorEntity(11L, 1L, 3L, null)));
+
+        issueService.reassignCreator(List.of(1L), "  佐藤 ");
+
+        verify(creatorDictionary, times(1)).idOf("佐藤");
+        verify(eventPublisher, times(1)).publishEvent(IssueChangedEvent.updated(1L, "バグA", "バグがあります", "佐藤"));
+    }
+
+    @Test
+    @DisplayName("❌ 一括操作で課題IDが空・上限超過・負の数の場合は例外")
+    void testBulkWithInvalidIds() {
+        List<Long> tooMany = LongStream.rangeClosed(1, IssueService.MAX_BULK_SIZE + 1).boxed().toList();
+
+        assertThatThrownBy(() -> issueService.deleteIssues(List.of())).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> issueService.deleteIssues(tooMany)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> issueService.reassignCreator(List.of(-1L), "田中")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> issueService.reassignCreator(List.of(1L), " ")).isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(issueRepository);
+    }
+
+    @Test
+    @DisplayName("❌ 変更履歴の枠が空かない場合はトランザクションを始めずに例外")
+    void testRejectsWhenHistoryIsBusy() {
+        doThrow(new IssueHistoryBusyException("混み合っています")).when(issueHistoryWriter).withSlots(anyInt(), any());
+
+        assertThatThrownBy(() -> issueService.deleteIssue(1L)).isInstanceOf(IssueHistoryBusyException.class);
+        assertThatThrownBy(() -> issueService.deleteIssues(List.of(1L, 2L, 1L))).isInstanceOf(IssueHistoryBusyException.class);
+
+        verify(issueHistoryWriter, times(1)).withSlots(eq(1), any());
+        verify(issueHistoryWriter, times(1)).withSlots(eq(2), any()); // 重複を除いた件数分の枠
+        verifyNoInteractions(issueRepository, transactionManager, eventPublisher);
+    }
 }
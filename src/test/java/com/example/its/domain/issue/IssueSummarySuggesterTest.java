@@ -0,0 +1,76 @@
+package com.example.its.domain.issue;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class IssueSummarySuggesterTest {
+
+    @Mock
+    private IssueRepository issueRepository;
+
+    private IssueSummarySuggester suggester;
+
+    @BeforeEach
+    void setUp() {
+        suggester = new IssueSummarySuggester(issueRepository);
+    }
+
+    @Test
+    @DisplayName("✅ 起動時に全課題から構築し、前方一致する概要を返す")
+    void testRebuild() {
+        when(issueRepository.findActiveIssues(0L, 1000)).thenReturn(List.of(
+                new IssueEntity(1L, "バグA", "バグがあります", null, null, false),
+                new IssueEntity(2L, "機能要望B", "Bに追加機能がほしいです", null, null, false)));
+
+        suggester.rebuild();
+
+        assertThat(suggester.suggest("バ", 10)).extracting(IssueSuggestion::getId).containsExactly(1L);
+        assertThat(suggester.suggest("機能", 10)).extracting(IssueSuggestion::getSummary).containsExactly("機能要望B");
+        assertThat(suggester.suggest("要望", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("✅ 全角・大小・カタカナとひらがなの違いを無視し、件数を制限できる")
+    void testSuggestNormalized() {
+        suggester.index(1L, "ログイン不具合");
+        suggester.index(2L, "ログ管理");
+        suggester.index(3L, "Login画面");
+
+        assertThat(suggester.suggest("ろぐ", 10)).extracting(IssueSuggestion::getId).containsExactly(1L, 2L);
+        assertThat(suggester.suggest("ろぐ", 1)).extracting(IssueSuggestion::getId).containsExactly(1L);
+        assertThat(suggester.suggest("ＬＯＧ", 10)).extracting(IssueSuggestion::getSummary).containsExactly("Login画面");
+    }
+
+    @Test
+    @DisplayName("✅ 更新・削除を反映できる")
+    void testUpdateAndDelete() {
+        suggester.onIssueChanged(IssueChangedEvent.created(1L, "バグA", "バグがあります", "田中"));
+        suggester.onIssueChanged(IssueChangedEvent.updated(1L, "不具合A", "バグがあります", "田中"));
+
+        assertThat(suggester.suggest("バグ", 10)).isEmpty();
+        assertThat(suggester.suggest("不具合", 10)).extracting(IssueSuggestion::getId).containsExactly(1L);
+
+        suggester.onIssueChanged(IssueChangedEvent.deleted(1L));
+
+        assertThat(suggester.suggest("不具合", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("❌ 空の入力には候補を返さない")
+    void testSuggestEmpty() {
+        suggester.index(1L, "バグA");
+
+        assertThat(suggester.suggest("", 10)).isEmpty();
+        assertThat(suggester.suggest(null, 10)).isEmpty();
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.its.domain.issue;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class IssueTextNormalizerTest {
+
+    @Test
+    @DisplayName("✅ 全角英数・大文字・半角カナ・カタカナの表記ゆれをそろえる")
+    void testNormalize() {
+        assertThat(IssueTextNormalizer.normalize("ＡＰＩ")).isEqualTo("api");
+        assertThat(IssueTextNormalizer.normalize("Api")).isEqualTo("api");
+        assertThat(IssueTextNormalizer.normalize("ﾊﾞｸﾞ")).isEqualTo("ばぐ");
+        assertThat(IssueTextNormalizer.normalize("バグ")).isEqualTo(IssueTextNormalizer.normalize("ばぐ"));
+        assertThat(IssueTextNormalizer.normalize("ログイン１２３")).isEqualTo("ろぐいん123");
+    }
+
+    @Test
+    @DisplayName("✅ 漢字・記号・長音はそのまま残し、何度かけても結果が変わらない")
+    void testNormalizeKeepsOtherCharacters() {
+        String normalized = IssueTextNormalizer.normalize("機能要望：データー");
+
+        assertThat(normalized).isEqualTo("機能要望:でーたー");
+        assertThat(IssueTextNormalizer.normalize(normalized)).isEqualTo(normalized);
+        assertThat(IssueTextNormalizer.normalize(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("✅ NFKC で1文字が複数の文字に展開される場合がある（summary_norm / description_norm は元の列の18倍）")
+    void testNormalizeExpandsCharacters() {
+        assertThat(IssueTextNormalizer.normalize("\uFDFA")).hasSize(18);
+        assertThat(IssueTextNormalizer.normalize("\u3300")).isEqualTo("あぱーと"); // ㌀ → アパート
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.its.web.issue;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.example.its.domain.issue.IssueBulkOutcome;
+import com.example.its.domain.issue.IssueBulkResult;
+import com.example.its.domain.issue.IssueHistoryBusyException;
+import com.example.its.domain.issue.IssueChangeVersion;
+import com.example.its.domain.issue.IssueExportService;
+import com.example.its.domain.issue.IssueListRow;
+import com.example.its.domain.issue.IssuePage;
+import com.example.its.domain.issue.IssueService;
+import com.example.its.domain.issue.IssueUpdateResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Optional;
+
+@WebMvcTest(controllers = IssueApiController.class, properties = "its.issue.list-page-cache.enabled=false")
+class IssueApiControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private IssueService issueService;
+
+    @MockitoBean
+    private IssueExportService issueExportService;
+
+    @MockitoBean
+    private IssueChangeVersion issueChangeVersion;
+
+    @Test
+    @DisplayName("✅ 一覧を JSON で返し、ETag が一致すれば 304 を返す")
+    void testList() throws Exception {
+        when(issueChangeVersion.etag()).thenReturn("\"v1\"");
+        when(issueService.findIssues("バグ", null, null)).thenReturn(new IssuePage(
+                List.of(new IssueListRow(2L, "バグA", "佐藤", "2025-01-01 10:00:00.0")), null));
+
+        mockMvc.perform(get("/api/issues").param("keyword", "バグ"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"v1\""))
+                .andExpect(header().doesNotExist("Last-Modified")) // 秒単位の日時では同じ秒の変更を区別できない
+                .andExpect(jsonPath("$.issues[0].summary").value("バグA"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        mockMvc.perform(get("/api/issues").param("keyword", "バグ").header("If-None-Match", "\"v1\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("✅ 詳細をバージョンから作った ETag 付きで返し、ETag が一致すれば 304 を返す")
+    void testDetail() throws Exception {
+        when(issueService.findDetailById(1L)).thenReturn(Optional.of(
+                new IssueForm(1L, "バグA", "バグがあります", "田中", null, "2025-01-01 10:00:00.0", 3L, false)));
+        when(issueChangeVersion.etag(1L, 3L)).thenReturn("\"v3\"");
+
+        mockMvc.perform(get("/api/issues/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"v3\""))
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andExpect(header().doesNotExist("Last-Modified"))
+                .andExpect(jsonPath("$.summary").value("バグA"))
+                .andExpect(jsonPath("$.creatorName").value("田中"))
+                .andExpect(jsonPath("$.version").value(3));
+
+        mockMvc.perform(get("/api/issues/1").header("If-None-Match", "\"v3\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("❌ 削除済み・存在しない課題の詳細は 404 を返す")
+    void testDetailNotFound() throws Exception {
+        when(issueService.findDetailById(1L)).thenReturn(Optional.of(
+                new IssueForm(1L, "バグA", "バグがあります", "田中", null, null, 4L, true)));
+        when(issueService.findDetailById(99L)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/issues/1"))
+                .andExpect(status().isNotFound())
+                .andExpect(header().doesNotExist("ETag"));
+        mockMvc.perform(get("/api/issues/99"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("❌ 全件取得はエクスポートの同時実行の上限に達している場合は 503")
+    void testStreamWhenLimitReached() throws Exception {
+        when(issueExportService.tryStartExport()).thenReturn(false);
+
+        mockMvc.perform(get("/api/issues/stream"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", IssueExportController.RETRY_AFTER_SECONDS));
+        verify(issueExportService, never()).exportActiveIssues(any());
+    }
+
+    @Test
+    @DisplayName("❌ 一覧の表示件数が上限を超える場合は 400")
+    void testListWithTooLargeSize() throws Exception {
+        mockMvc.perform(get("/api/issues").param("size", String.valueOf(IssueService.MAX_PAGE_SIZE + 1)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("表示件数は最大" + IssueService.MAX_PAGE_SIZE + "件までです"));
+        verifyNoInteractions(issueService);
+    }
+
+    @Test
+    @DisplayName("✅ 一括削除は課題ごとの結果を返す")
+    void testBulkDelete() throws Exception {
+        IssueBulkResult result = mock(IssueBulkResult.class);
+        when(result.getItems()).thenReturn(List.of(new IssueBulkResult.Item(1L, IssueBulkOutcome.SUCCEEDED),
+                new IssueBulkResult.Item(9L, IssueBulkOutcome.NOT_FOUND)));
+        when(result.getSucceeded()).thenReturn(1L);
+        when(issueService.deleteIssues(List.of(1L, 9L))).thenReturn(result);
+
+        mockMvc.perform(post("/api/issues/bulk-delete").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[1,9]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.items[1].id").value(9))
+                .andExpect(jsonPath("$.items[1].outcome").value("NOT_FOUND"));
+    }
+
+    @Test
+    @DisplayName("❌ 変更履歴の書き込みが混み合っている場合は 503")
+    void testBulkDeleteWhenHistoryIsBusy() throws Exception {
+        when(issueService.deleteIssues(List.of(1L))).thenThrow(new IssueHistoryBusyException("混み合っています"));
+
+        mockMvc.perform(post("/api/issues/bulk-delete").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[1]}"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.detail").value("混み合っています"));
+    }
+
+    @Test
+    @DisplayName("❌ 一括操作で課題IDを指定しない場合は 400")
+    void testBulkWithoutIds() throws Exception {
+        mockMvc.perform(post("/api/issues/bulk-reassign").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[],\"creatorName\":\"田中\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("課題IDを1件以上指定してください"));
+        verifyNoInteractions(issueService);
+    }
+
+    @Test
+    @DisplayName("✅ 課題を登録すると 201 と Location を返す")
+    void testCreate() throws Exception {
+        when(issueService.createIssueWithCreator("バグA", "バグがあります", "田中")).thenReturn(21L);
+        when(issueService.findDetailById(21L)).thenReturn(Optional.of(
+                new IssueForm(21L, "バグA", "バグがあります", "田中", null, null, 0L, false)));
+
+        mockMvc.perform(post("/api/issues").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"summary\":\"バグA\",\"description\":\"バグがあります\",\"creatorName\":\"田中\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Location", "http://localhost/api/issues/21"))
+                .andExpect(jsonPath("$.id").value(21));
+    }
+
+    @Test
+    @DisplayName("❌ 入力値が不正な場合は 400 の Problem Details を返す")
+    void testCreateWithInvalidInput() throws Exception {
+        mockMvc.perform(post("/api/issues").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"summary\":\"\",\"description\":\"バグがあります\",\"creatorName\":\"田中\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("概要は必須です"));
+        verify(issueService, never()).createIssueWithCreator(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("❌ 他のユーザーが先に更新した場合は 409 を返す")
+    void testUpdateConflict() throws Exception {
+        when(issueService.updateIssue(any(IssueForm.class))).thenReturn(IssueUpdateResult.CONFLICT);
+
+        mockMvc.perform(put("/api/issues/1").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"summary\":\"バグA\",\"description\":\"更新\",\"creatorName\":\"田中\",\"version\":0}"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("❌ 存在しない課題の削除は 404 を返す")
+    void testDeleteNotFound() throws Exception {
+        when(issueService.deleteIssue(99L)).thenReturn(false);
+
+        mockMvc.perform(delete("/api/issues/99"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -1,4 +1,76 @@
 package com.example.its.web.issue;
 
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.example.its.domain.issue.IssueChangeVersion;
+import com.example.its.domain.issue.IssueHistoryBusyException;
+import com.example.its.domain.issue.IssueService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Optional;
+
+@WebMvcTest(controllers = IssueController.class, properties = "its.issue.list-page-cache.enabled=false")
 public class IssueControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private IssueService issueService;
+
+    @MockitoBean
+    private IssueChangeVersion issueChangeVersion;
+
+    @Test
+    @DisplayName("✅ 課題詳細は ETag が一致すれば変更履歴を読まずに 304 を返し、一致しなければ履歴を1回だけ読む")
+    void testShowDetailNotModified() throws Exception {
+        when(issueService.findDetailById(1L)).thenReturn(Optional.of(
+                new IssueForm(1L, "バグA", "バグがあります", "田中", null, null, 3L, false)));
+        when(issueChangeVersion.etagWithHistory(1L, 3L)).thenReturn("\"v3-h1\"");
+        when(issueService.findHistory(1L)).thenReturn(List.of());
+
+        mockMvc.perform(get("/issues/1").header("If-None-Match", "\"v3-h1\""))
+                .andExpect(status().isNotModified());
+        verify(issueService, never()).findHistory(anyLong());
+
+        mockMvc.perform(get("/issues/1").header("If-None-Match", "\"v3-h0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"v3-h1\""))
+                .andExpect(view().name("issues/detail"));
+        verify(issueService, times(1)).findHistory(1L);
+    }
+
+    @Test
+    @DisplayName("❌ 変更履歴の書き込みが混み合っている場合は一覧画面へ戻してメッセージを表示する")
+    void testBulkDeleteWhenHistoryIsBusy() throws Exception {
+        when(issueService.deleteIssues(List.of(1L))).thenThrow(new IssueHistoryBusyException("混み合っています"));
+
+        mockMvc.perform(post("/issues/bulk-delete").param("ids", "1"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/issues"))
+                .andExpect(flash().attribute("errorMessage", "混み合っています"));
+    }
+
+    @Test
+    @DisplayName("❌ 一括操作の課題IDが不正な場合は一覧画面へ戻してメッセージを表示する")
+    void testBulkWithInvalidIds() throws Exception {
+        when(issueService.deleteIssues(List.of(-1L))).thenThrow(new IllegalArgumentException("issueId は正の数値である必要があります"));
+        when(issueService.reassignCreator(List.of(-1L), "田中")).thenThrow(new IllegalArgumentException("issueId は正の数値である必要があります"));
+
+        mockMvc.perform(post("/issues/bulk-delete").param("ids", "-1").param("keyword", "バグ"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(flash().attribute("errorMessage", "issueId は正の数値である必要があります"));
+        mockMvc.perform(post("/issues/bulk-reassign").param("ids", "-1").param("creatorName", "田中"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/issues"))
+                .andExpect(flash().attribute("errorMessage", "issueId は正の数値である必要があります"));
+    }
 }
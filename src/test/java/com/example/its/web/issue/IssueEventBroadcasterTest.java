@@ -0,0 +1,71 @@
+package com.example.its.web.issue;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.example.its.domain.issue.IssueChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Optional;
+
+class IssueEventBroadcasterTest {
+
+    private IssueEventBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        // 接続数の上限 2、クライアントごとのキュー 8 件
+        broadcaster = new IssueEventBroadcaster(2, 8, Duration.ZERO, new SimpleMeterRegistry());
+        broadcaster.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.stop();
+    }
+
+    @Test
+    @DisplayName("✅ 接続数が上限に達したら新しい接続を拒否する")
+    void testRejectsOverMaxConnections() {
+        assertThat(broadcaster.connect()).isPresent();
+        assertThat(broadcaster.connect()).isPresent();
+
+        assertThat(broadcaster.connect()).isEmpty();
+        assertThat(broadcaster.connections()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("✅ 変更を通知しても接続は維持される")
+    void testBroadcastKeepsClients() {
+        Optional<SseEmitter> emitter = broadcaster.connect();
+
+        broadcaster.onIssueChanged(IssueChangedEvent.updated(1L, "バグA", "バグがあります", "田中"));
+        broadcaster.heartbeat();
+
+        assertThat(emitter).isPresent();
+        assertThat(broadcaster.connections()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("❌ 停止後は全クライアントを切断し、新しい接続も拒否する")
+    void testStopDisconnectsClients() {
+        broadcaster.connect();
+
+        broadcaster.stop();
+
+        assertThat(broadcaster.connections()).isZero();
+        assertThat(broadcaster.connect()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("❌ client-buffer が 0 の場合は例外")
+    void testInvalidClientBuffer() {
+        assertThatThrownBy(() -> new IssueEventBroadcaster(1, 0, Duration.ZERO, new SimpleMeterRegistry()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
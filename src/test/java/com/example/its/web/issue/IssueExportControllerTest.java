@@ -0,0 +1,144 @@
+package com.example.its.web.issue;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.example.its.domain.issue.IssueExportRow;
+import com.example.its.domain.issue.IssueExportService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+@WebMvcTest(controllers = IssueExportController.class, properties = "its.issue.list-page-cache.enabled=false")
+class IssueExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private IssueExportService issueExportService;
+
+    private final List<IssueExportRow> rows = List.of(
+            new IssueExportRow(1L, "バグA", "バグがあります", "田中", "2026-01-01 10:00:00", "2026-01-02 10:00:00", 1L),
+            new IssueExportRow(2L, "カンマ,と\"引用符\"", "1行目\n2行目\r\n3行目", "佐藤", "2026-01-03 10:00:00", null, 2L));
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(issueExportService.tryStartExport()).thenReturn(true);
+        when(issueExportService.exportActiveIssues(any(), any())).thenAnswer(invocation -> {
+            IssueExportService.RowWriter writer = invocation.getArgument(1);
+            for (IssueExportRow row : rows) {
+                writer.write(row);
+            }
+            return (long) rows.size();
+        });
+    }
+
+    @Test
+    @DisplayName("✅ CSV はカンマ・ダブルクォート・改行を含む値だけをダブルクォートで囲み、null は空欄にする")
+    void testCsvQuoting() throws Exception {
+        String body = export("/issues/export?format=csv");
+
+        assertThat(body).isEqualTo("""
+                id,summary,description,creatorName,createdAt,updatedAt
+                1,バグA,バグがあります,田中,2026-01-01 10:00:00,2026-01-02 10:00:00
+                2,"カンマ,と""引用符""\","1行目
+                2行目\r
+                3行目",佐藤,2026-01-03 10:00:00,
+                """);
+        verify(issueExportService).exportActiveIssues(isNull(), any());
+        verify(issueExportService).finishExport(); // 書き出し後に枠を返す
+    }
+
+    @Test
+    @DisplayName("✅ NDJSON は1課題を1行の JSON で書き、値の改行はエスケープする")
+    void testNdjsonLines() throws Exception {
+        String body = export("/issues/export?format=ndjson");
+
+        assertThat(body).endsWith("\n");
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(2);
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertThat(second.get("id").asLong()).isEqualTo(2L);
+        assertThat(second.get("summary").asText()).isEqualTo("カンマ,と\"引用符\"");
+        assertThat(second.get("description").asText()).isEqualTo("1行目\n2行目\r\n3行目");
+        assertThat(second.get("creatorName").asText()).isEqualTo("佐藤");
+        assertThat(second.get("updatedAt").isNull()).isTrue();
+        assertThat(objectMapper.readTree(lines[0]).get("summary").asText()).isEqualTo("バグA");
+    }
+
+    @Test
+    @DisplayName("✅ keyword はそのままエクスポートの絞り込みに渡す")
+    void testKeywordIsPassed() throws Exception {
+        export("/issues/export?format=ndjson&keyword=バグ");
+
+        verify(issueExportService).exportActiveIssues(eq("バグ"), any());
+    }
+
+    @Test
+    @DisplayName("❌ format が不正・keyword が長すぎる場合は書き出しを始めずに 400")
+    void testBadRequest() throws Exception {
+        mockMvc.perform(get("/issues/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/issues/export").param("keyword", "a".repeat(IssueExportService.MAX_KEYWORD_LENGTH + 1)))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(issueExportService);
+    }
+
+    @Test
+    @DisplayName("❌ 同時実行の上限に達している場合は書き出しを始めずに 503")
+    void testServiceUnavailableWhenLimitReached() throws Exception {
+        when(issueExportService.tryStartExport()).thenReturn(false);
+
+        mockMvc.perform(get("/issues/export").param("format", "csv"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", IssueExportController.RETRY_AFTER_SECONDS));
+
+        verify(issueExportService, never()).exportActiveIssues(any(), any());
+        verify(issueExportService, never()).finishExport();
+    }
+
+    @Test
+    @DisplayName("✅ 書き出しが失敗した場合も枠を返す")
+    void testReleasesWhenExportFails() throws Exception {
+        doThrow(new IllegalStateException("接続が切れました")).when(issueExportService).exportActiveIssues(any(), any());
+
+        MvcResult result = mockMvc.perform(get("/issues/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertThatThrownBy(() -> mockMvc.perform(asyncDispatch(result))).hasRootCauseInstanceOf(IllegalStateException.class);
+
+        verify(issueExportService).finishExport();
+    }
+
+    /**
+     * StreamingResponseBody は非同期で書き出されるため、asyncDispatch で書き出し後の本文を取得する
+     */
+    private String export(String url) throws Exception {
+        MvcResult result = mockMvc.perform(get(url))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", Matchers.startsWith("attachment;")))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+    }
+}
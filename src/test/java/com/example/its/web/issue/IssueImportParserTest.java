@@ -0,0 +1,126 @@
+package com.example.its.web.issue;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.example.its.domain.issue.IssueImportRow;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+class IssueImportParserTest {
+
+    @Test
+    @DisplayName("✅ CSV のヘッダーを読み飛ばし、クォート内のカンマ・改行を扱える")
+    void testCsv() {
+        String csv = """
+                summary,description,creatorName
+                バグA,バグがあります,田中
+                "機能要望B","カンマ,と
+                改行と""引用""\",佐藤
+                """;
+
+        List<IssueImportRow> rows = readAll(IssueImportParser.csv(reader(csv)));
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).getLineNumber()).isEqualTo(2);
+        assertThat(rows.get(0).getSummary()).isEqualTo("バグA");
+        assertThat(rows.get(1).getLineNumber()).isEqualTo(3);
+        assertThat(rows.get(1).getDescription()).isEqualTo("カンマ,と\n改行と\"引用\"");
+        assertThat(rows.get(1).getCreatorName()).isEqualTo("佐藤");
+    }
+
+    @Test
+    @DisplayName("❌ CSV の列数が不正な行はエラー付きで返す")
+    void testCsvWithWrongColumnCount() {
+        List<IssueImportRow> rows = readAll(IssueImportParser.csv(reader("バグA,バグがあります\n")));
+
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).getError()).contains("列の数が不正です");
+    }
+
+    @Test
+    @DisplayName("✅ JSON Lines を1行ずつ読み込み、不正な行はエラー付きで返す")
+    void testJsonLines() {
+        String jsonLines = """
+                {"summary":"バグA","description":"バグがあります","creatorName":"田中"}
+
+                {bad
+                """;
+
+        List<IssueImportRow> rows = readAll(IssueImportParser.jsonLines(reader(jsonLines), new ObjectMapper()));
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).getSummary()).isEqualTo("バグA");
+        assertThat(rows.get(0).getError()).isNull();
+        assertThat(rows.get(1).getLineNumber()).isEqualTo(3);
+        assertThat(rows.get(1).getError()).contains("JSON の形式が不正です");
+    }
+
+    @Test
+    @DisplayName("❌ ダブルクォートが閉じられていない値は上限の文字数でエラーにし、次の行から読み直す")
+    void testCsvWithUnclosedQuote() {
+        StringBuilder csv = new StringBuilder("バグA,\"閉じられていない詳細,田中\n");
+        for (int i = 0; i < 100_000; i++) {
+            csv.append("続きの行").append(i).append('\n'); // 上限を大きく超える残りの入力
+        }
+        csv.append("バグB,バグがあります,佐藤\n");
+
+        Iterator<IssueImportRow> rows = IssueImportParser.csv(reader(csv.toString()));
+
+        IssueImportRow first = rows.next();
+        assertThat(first.getLineNumber()).isEqualTo(1);
+        assertThat(first.getError()).contains("値が長すぎます");
+        IssueImportRow next = rows.next(); // 上限を超えた行の次の行から1レコードとして読み直す
+        assertThat(next.getLineNumber()).isGreaterThan(2).isLessThan(200);
+        assertThat(next.getError()).contains("列の数が不正です");
+
+        List<IssueImportRow> rest = readAll(rows);
+        assertThat(rest.get(rest.size() - 1).getSummary()).isEqualTo("バグB");
+        assertThat(rest.get(rest.size() - 1).getError()).isNull();
+    }
+
+    @Test
+    @DisplayName("❌ 1行の中で上限の文字数を超える値・行はエラー付きで返す")
+    void testCsvWithTooLongField() {
+        String csv = "バグA," + "あ".repeat(IssueImportParser.MAX_FIELD_LENGTH + 1) + ",田中\n"
+                + "バグB," + "い".repeat(IssueImportParser.MAX_LINE_LENGTH) + ",田中\n"
+                + "バグC,バグがあります,佐藤\n";
+
+        List<IssueImportRow> rows = readAll(IssueImportParser.csv(reader(csv)));
+
+        assertThat(rows).extracting(IssueImportRow::getLineNumber).containsExactly(1L, 2L, 3L);
+        assertThat(rows.get(0).getError()).contains("値が長すぎます");
+        assertThat(rows.get(1).getError()).contains("1行が長すぎます");
+        assertThat(rows.get(2).getError()).isNull();
+    }
+
+    @Test
+    @DisplayName("❌ JSON Lines で上限の文字数を超える行は読み飛ばしてエラー付きで返す")
+    void testJsonLinesWithTooLongLine() {
+        String jsonLines = "{\"summary\":\"" + "あ".repeat(IssueImportParser.MAX_LINE_LENGTH) + "\"}\n"
+                + "{\"summary\":\"バグA\",\"description\":\"バグがあります\",\"creatorName\":\"田中\"}\r\n";
+
+        List<IssueImportRow> rows = readAll(IssueImportParser.jsonLines(reader(jsonLines), new ObjectMapper()));
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).getError()).contains("1行が長すぎます");
+        assertThat(rows.get(1).getLineNumber()).isEqualTo(2);
+        assertThat(rows.get(1).getCreatorName()).isEqualTo("田中");
+    }
+
+    private static BufferedReader reader(String text) {
+        return new BufferedReader(new StringReader(text));
+    }
+
+    private static List<IssueImportRow> readAll(Iterator<IssueImportRow> rows) {
+        List<IssueImportRow> result = new ArrayList<>();
+        rows.forEachRemaining(result::add);
+        return result;
+    }
+}
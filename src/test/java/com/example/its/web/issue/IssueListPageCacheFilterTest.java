@@ -0,0 +1,107 @@
+package com.example.its.web.issue;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.example.its.domain.issue.IssueChangeVersion;
+import com.example.its.domain.issue.IssueChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.FlashMap;
+import org.springframework.web.servlet.support.SessionFlashMapManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class IssueListPageCacheFilterTest {
+
+    private final IssueChangeVersion issueChangeVersion = new IssueChangeVersion();
+    private final IssueListPageCacheFilter filter =
+            new IssueListPageCacheFilter(issueChangeVersion, DataSize.ofMegabytes(1), new SimpleMeterRegistry());
+    private final AtomicInteger renders = new AtomicInteger();
+
+    // 一覧画面の描画の代わりに、描画回数を含む HTML を返す
+    private final FilterChain chain = (request, response) -> {
+        response.setContentType("text/html;charset=UTF-8");
+        ((HttpServletResponse) response).setHeader("ETag", issueChangeVersion.etag());
+        response.getWriter().write("<p>一覧" + renders.incrementAndGet() + "</p>");
+    };
+
+    @Test
+    @DisplayName("✅ 同じキーワード・ページの2回目は描画せずにキャッシュした HTML を返す")
+    void testHit() throws Exception {
+        MockHttpServletResponse first = get("バグ");
+        MockHttpServletResponse second = get("バグ");
+
+        assertThat(renders).hasValue(1);
+        assertThat(second.getContentAsString(StandardCharsets.UTF_8)).isEqualTo("<p>一覧1</p>");
+        assertThat(second.getContentType()).isEqualTo(first.getContentType());
+        assertThat(second.getHeader("ETag")).isEqualTo(first.getHeader("ETag"));
+        assertThat(filter.stats().hitCount()).isEqualTo(1);
+
+        get("ログ");
+        assertThat(renders).hasValue(2); // キーワードが違えば描画する
+    }
+
+    @Test
+    @DisplayName("✅ 課題が変更されたら描画し直す")
+    void testInvalidatedOnIssueChanged() throws Exception {
+        get(null);
+        IssueChangedEvent event = IssueChangedEvent.created(1L, "バグA", "バグがあります", "田中");
+        issueChangeVersion.onIssueChanged(event);
+        filter.onIssueChanged(event);
+
+        assertThat(get(null).getContentAsString(StandardCharsets.UTF_8)).isEqualTo("<p>一覧2</p>");
+    }
+
+    @Test
+    @DisplayName("✅ キャッシュした HTML でも ETag が一致すれば 304 を返す")
+    void testNotModifiedFromCache() throws Exception {
+        String etag = get(null).getHeader("ETag");
+
+        MockHttpServletRequest request = request(null);
+        request.addHeader("If-None-Match", etag);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentLength()).isZero();
+        assertThat(renders).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("❌ フラッシュのエラーメッセージが残っている場合はキャッシュを使わない")
+    void testBypassWithFlashAttributes() throws Exception {
+        get(null);
+
+        MockHttpServletRequest request = request(null);
+        FlashMap flashMap = new FlashMap();
+        flashMap.put("errorMessage", "削除対象の課題が見つかりません");
+        request.getSession().setAttribute(
+                SessionFlashMapManager.class.getName() + ".FLASH_MAPS",
+                List.of(flashMap));
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertThat(renders).hasValue(2);
+    }
+
+    private MockHttpServletResponse get(String keyword) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(keyword), response, chain);
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String keyword) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/issues");
+        if (keyword != null) {
+            request.setParameter("keyword", keyword);
+        }
+        return request;
+    }
+}